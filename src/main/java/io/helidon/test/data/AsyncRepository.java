@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Non-blocking facade of the {@link io.helidon.test.model.Pokemon}, {@link io.helidon.test.model.Trainer}
+ * and {@link io.helidon.test.model.Team} persistence.
+ * <p>
+ * Every operation runs with its own {@link EntityManager} on a dedicated executor, so calling thread
+ * (e.g. an event loop) is never blocked by JDBC. Executor has a thread per pooled connection and a bounded
+ * queue of waiting operations. When the queue is full, operation is rejected immediately and returned stage
+ * completes exceptionally with {@link RejectedExecutionException}, so the caller can shed load instead
+ * of waiting for a connection.
+ * <p>
+ * Entities passed to stage completion are detached. Lazy associations which were not loaded
+ * by the operation are not available. {@link #find(Class, int)}, {@link #query(String, Class, Map)}
+ * and {@link #stream(String, Class, Map, Consumer)} load entities read-only, see {@link ReadOnly}.
+ */
+public final class AsyncRepository implements AutoCloseable {
+
+    private static final AtomicInteger REPOSITORY_COUNTER = new AtomicInteger();
+
+    private final EntityManagerFactory emf;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates an instance of asynchronous repository.
+     *
+     * @param emf JPA {@link EntityManagerFactory}
+     * @param poolSize number of executor threads, should match size of the connection pool
+     * @param queueCapacity maximum number of operations waiting for a free thread
+     */
+    public AsyncRepository(EntityManagerFactory emf, int poolSize, int queueCapacity) {
+        this.emf = emf;
+        String prefix = "async-repository-" + REPOSITORY_COUNTER.incrementAndGet() + "-";
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize,
+                                               poolSize,
+                                               0L,
+                                               TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(queueCapacity),
+                                               task -> {
+                                                   Thread thread = new Thread(task,
+                                                                              prefix + threadCounter.incrementAndGet());
+                                                   thread.setDaemon(true);
+                                                   return thread;
+                                               },
+                                               new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Find entity by its ID.
+     *
+     * @param entityClass entity class
+     * @param id entity ID
+     * @return stage completed with the entity or empty value when entity does not exist
+     * @param <T> entity type
+     */
+    public <T> CompletionStage<Optional<T>> find(Class<T> entityClass, int id) {
+        return submit(readOnly(em -> Optional.ofNullable(em.find(entityClass, id))), false);
+    }
+
+    /**
+     * Merge entity state in a new transaction.
+     *
+     * @param entity entity to merge
+     * @return stage completed with the merged entity
+     * @param <T> entity type
+     */
+    public <T> CompletionStage<T> merge(T entity) {
+        return transaction(em -> em.merge(entity));
+    }
+
+    /**
+     * Execute named query.
+     *
+     * @param name name of the query
+     * @param resultClass query result class
+     * @param parameters query parameters
+     * @return stage completed with the query result
+     * @param <T> query result type
+     */
+    public <T> CompletionStage<List<T>> query(String name, Class<T> resultClass, Map<String, ?> parameters) {
+        return submit(readOnly(em -> namedQuery(em, name, resultClass, parameters).getResultList()), false);
+    }
+
+    /**
+     * Execute named query and pass the result to the consumer row by row without collecting it.
+     * Consumer is invoked on the repository thread.
+     *
+     * @param name name of the query
+     * @param resultClass query result class
+     * @param parameters query parameters
+     * @param consumer consumer of the query result
+     * @return stage completed with the number of consumed results
+     * @param <T> query result type
+     */
+    public <T> CompletionStage<Long> stream(String name,
+                                            Class<T> resultClass,
+                                            Map<String, ?> parameters,
+                                            Consumer<? super T> consumer) {
+        return submit(readOnly(em -> {
+            long count = 0;
+            try (Stream<T> stream = namedQuery(em, name, resultClass, parameters).getResultStream()) {
+                for (T result : (Iterable<T>) stream::iterator) {
+                    consumer.accept(result);
+                    count++;
+                }
+            }
+            return count;
+        }), false);
+    }
+
+    /**
+     * Run work with a new {@link EntityManager}.
+     *
+     * @param work work to run
+     * @return stage completed with the value returned by the work
+     * @param <R> type of the value returned by the work
+     */
+    public <R> CompletionStage<R> call(Function<EntityManager, R> work) {
+        return submit(work, false);
+    }
+
+    /**
+     * Run work with a new {@link EntityManager} in a new transaction.
+     * Transaction is rolled back when the work fails.
+     *
+     * @param work work to run
+     * @return stage completed with the value returned by the work
+     * @param <R> type of the value returned by the work
+     */
+    public <R> CompletionStage<R> transaction(Function<EntityManager, R> work) {
+        return submit(work, true);
+    }
+
+    /**
+     * Number of operations waiting for a free thread.
+     *
+     * @return number of queued operations
+     */
+    public int queued() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stop accepting new operations. Already accepted operations are completed.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <R> CompletionStage<R> submit(Function<EntityManager, R> work, boolean transactional) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(transactional ? inTransaction(work) : withEntityManager(work));
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private <R> R withEntityManager(Function<EntityManager, R> work) {
+        try (EntityManager em = emf.createEntityManager()) {
+            return work.apply(em);
+        }
+    }
+
+    private <R> R inTransaction(Function<EntityManager, R> work) {
+        try (EntityManager em = emf.createEntityManager()) {
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            try {
+                R result = work.apply(em);
+                et.commit();
+                return result;
+            } catch (Throwable t) {
+                if (et.isActive()) {
+                    et.rollback();
+                }
+                throw t;
+            }
+        }
+    }
+
+    // Operation results are detached, snapshots for dirty checking are never used
+    private static <R> Function<EntityManager, R> readOnly(Function<EntityManager, R> work) {
+        return em -> work.apply(ReadOnly.session(em));
+    }
+
+    private static <T> TypedQuery<T> namedQuery(EntityManager em,
+                                                String name,
+                                                Class<T> resultClass,
+                                                Map<String, ?> parameters) {
+        TypedQuery<T> query = em.createNamedQuery(name, resultClass);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Keyset (seek) pagination of {@link Pokemon} and {@link Trainer} listings.
+ * <p>
+ * Each page is retrieved in two steps. Root IDs of the page are selected first using
+ * ordering backed by {@code (TRAINER_ID, ID, DELETED)} or {@code (NAME, ID)} index and a seek
+ * predicate instead of an offset, so the cost of the page does not depend on its depth.
+ * Entities with their collections are fetched by those IDs in the second step, so row
+ * limit is never applied to a collection join.
+ * <p>
+ * Continuation tokens are opaque to the caller and must be passed back unchanged
+ * to the same kind of listing.
+ */
+public final class KeysetPagination {
+
+    // Ordering must match the (TRAINER_ID, ID, DELETED) index to read only the rows of the page
+    private static final String POKEMON_IDS_OF_TRAINER
+            = "SELECT p.id FROM Pokemon p WHERE p.trainer.id = :trainerId ORDER BY p.trainer.id, p.id";
+    private static final String POKEMON_IDS_OF_TRAINER_AFTER
+            = "SELECT p.id FROM Pokemon p WHERE p.trainer.id = :trainerId AND p.id > :id"
+            + " ORDER BY p.trainer.id, p.id";
+    private static final String POKEMON_KEYS_BY_NAME
+            = "SELECT p.id, p.name FROM Pokemon p WHERE p.name IS NOT NULL ORDER BY p.name, p.id";
+    // Row value comparison seeks in the (NAME, ID) index, equivalent OR predicate scans it from the start
+    private static final String POKEMON_KEYS_BY_NAME_AFTER
+            = "SELECT p.id, p.name FROM Pokemon p WHERE (p.name, p.id) > (:name, :id) ORDER BY p.name, p.id";
+    private static final String POKEMONS_BY_IDS
+            = "SELECT DISTINCT p FROM Pokemon p LEFT JOIN FETCH p.types WHERE p.id IN :ids";
+    private static final String TRAINER_KEYS_BY_NAME
+            = "SELECT t.id, t.name FROM Trainer t WHERE t.name IS NOT NULL ORDER BY t.name, t.id";
+    private static final String TRAINER_KEYS_BY_NAME_AFTER
+            = "SELECT t.id, t.name FROM Trainer t WHERE (t.name, t.id) > (:name, :id) ORDER BY t.name, t.id";
+    private static final String TRAINERS_BY_IDS
+            = "SELECT t FROM Trainer t WHERE t.id IN :ids";
+
+    private KeysetPagination() {
+        throw new UnsupportedOperationException("No instances of KeysetPagination are allowed");
+    }
+
+    /**
+     * Page of {@link Pokemon}s of single {@link Trainer} ordered by ID.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param trainerId ID of the {@link Trainer}
+     * @param token continuation token returned with previous page or {@code null} for the first page
+     * @param size maximum number of items on the page
+     * @return page of {@link Pokemon}s
+     * @throws IllegalArgumentException when token is not valid for this listing or size is not positive
+     */
+    public static Page<Pokemon> pokemonsOfTrainer(EntityManager em, int trainerId, String token, int size) {
+        checkSize(size);
+        Cursor cursor = Cursor.decode(token, Cursor.POKEMON_OF_TRAINER);
+        TypedQuery<Integer> query;
+        if (cursor == null) {
+            query = em.createQuery(POKEMON_IDS_OF_TRAINER, Integer.class);
+        } else {
+            if (!Integer.toString(trainerId).equals(cursor.key)) {
+                throw new IllegalArgumentException("Continuation token belongs to another trainer");
+            }
+            query = em.createQuery(POKEMON_IDS_OF_TRAINER_AFTER, Integer.class)
+                    .setParameter("id", cursor.id);
+        }
+        List<Integer> ids = query.setParameter("trainerId", trainerId)
+                .setMaxResults(size + 1)
+                .getResultList();
+        String next = null;
+        if (ids.size() > size) {
+            ids = ids.subList(0, size);
+            next = new Cursor(Cursor.POKEMON_OF_TRAINER, ids.get(size - 1), Integer.toString(trainerId)).encode();
+        }
+        return new Page<>(fetch(em, Pokemon.class, POKEMONS_BY_IDS, ids, Pokemon::getId), next);
+    }
+
+    /**
+     * Page of {@link Pokemon}s ordered by name and ID.
+     * {@link Pokemon}s without name are not listed.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param token continuation token returned with previous page or {@code null} for the first page
+     * @param size maximum number of items on the page
+     * @return page of {@link Pokemon}s
+     * @throws IllegalArgumentException when token is not valid for this listing or size is not positive
+     */
+    public static Page<Pokemon> pokemonsByName(EntityManager em, String token, int size) {
+        checkSize(size);
+        Cursor cursor = Cursor.decode(token, Cursor.POKEMON_BY_NAME);
+        List<Tuple> keys = keys(em, cursor, POKEMON_KEYS_BY_NAME, POKEMON_KEYS_BY_NAME_AFTER, size);
+        return namePage(em, Cursor.POKEMON_BY_NAME, keys, size, Pokemon.class, POKEMONS_BY_IDS, Pokemon::getId);
+    }
+
+    /**
+     * Page of {@link Trainer}s ordered by name and ID.
+     * {@link Trainer}s without name are not listed.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param token continuation token returned with previous page or {@code null} for the first page
+     * @param size maximum number of items on the page
+     * @return page of {@link Trainer}s
+     * @throws IllegalArgumentException when token is not valid for this listing or size is not positive
+     */
+    public static Page<Trainer> trainersByName(EntityManager em, String token, int size) {
+        checkSize(size);
+        Cursor cursor = Cursor.decode(token, Cursor.TRAINER_BY_NAME);
+        List<Tuple> keys = keys(em, cursor, TRAINER_KEYS_BY_NAME, TRAINER_KEYS_BY_NAME_AFTER, size);
+        return namePage(em, Cursor.TRAINER_BY_NAME, keys, size, Trainer.class, TRAINERS_BY_IDS, Trainer::getId);
+    }
+
+    private static List<Tuple> keys(EntityManager em, Cursor cursor, String first, String after, int size) {
+        TypedQuery<Tuple> query;
+        if (cursor == null) {
+            query = em.createQuery(first, Tuple.class);
+        } else {
+            query = em.createQuery(after, Tuple.class)
+                    .setParameter("name", cursor.key)
+                    .setParameter("id", cursor.id);
+        }
+        return query.setMaxResults(size + 1)
+                .getResultList();
+    }
+
+    private static <T> Page<T> namePage(EntityManager em,
+                                        char kind,
+                                        List<Tuple> keys,
+                                        int size,
+                                        Class<T> entityClass,
+                                        String fetchQuery,
+                                        ToIntFunction<T> idOf) {
+        int count = Math.min(keys.size(), size);
+        List<Integer> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(keys.get(i).get(0, Integer.class));
+        }
+        String next = null;
+        if (keys.size() > size) {
+            Tuple last = keys.get(size - 1);
+            next = new Cursor(kind, last.get(0, Integer.class), last.get(1, String.class)).encode();
+        }
+        return new Page<>(fetch(em, entityClass, fetchQuery, ids, idOf), next);
+    }
+
+    // Fetch entities by IDs and restore order of the IDs list
+    private static <T> List<T> fetch(EntityManager em,
+                                     Class<T> entityClass,
+                                     String fetchQuery,
+                                     List<Integer> ids,
+                                     ToIntFunction<T> idOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<T> entities = em.createQuery(fetchQuery, entityClass)
+                .setParameter("ids", ids)
+                .getResultList();
+        Map<Integer, T> byId = new HashMap<>(entities.size() * 2);
+        for (T entity : entities) {
+            byId.put(idOf.applyAsInt(entity), entity);
+        }
+        List<T> result = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            T entity = byId.get(id);
+            // Row may have been removed between both queries
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    private static void checkSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive, got " + size);
+        }
+    }
+
+    // Position of the last row of the page: listing kind, row ID and ordering key
+    private static final class Cursor {
+
+        private static final char POKEMON_OF_TRAINER = 'T';
+        private static final char POKEMON_BY_NAME = 'N';
+        private static final char TRAINER_BY_NAME = 'R';
+
+        private final char kind;
+        private final int id;
+        private final String key;
+
+        private Cursor(char kind, int id, String key) {
+            this.kind = kind;
+            this.id = id;
+            this.key = key;
+        }
+
+        private String encode() {
+            String value = kind + ":" + id + ":" + key;
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Cursor decode(String token, char expectedKind) {
+            if (token == null) {
+                return null;
+            }
+            String[] parts;
+            try {
+                parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                        .split(":", 3);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Malformed continuation token", e);
+            }
+            if (parts.length != 3 || parts[0].length() != 1) {
+                throw new IllegalArgumentException("Malformed continuation token");
+            }
+            if (parts[0].charAt(0) != expectedKind) {
+                throw new IllegalArgumentException("Continuation token belongs to another listing");
+            }
+            try {
+                return new Cursor(expectedKind, Integer.parseInt(parts[1]), parts[2]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed continuation token", e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.TrainerStats;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Trainer and team leaderboards backed by materialized {@link TrainerStats}.
+ * <p>
+ * {@link TrainerStats} rows are updated incrementally from {@link Pokemon} persist, merge and remove
+ * when {@link #properties()} are passed to the {@link EntityManagerFactory}. Changes flushed within
+ * a transaction are summed per trainer and applied as single row update just before the transaction
+ * commits, so reading the leaderboard is a primary key lookup or a scan of one row per trainer
+ * instead of an aggregation over all Pokemons. Changes are not visible in the transaction which made them.
+ * <p>
+ * Bulk operations bypass entity events, {@code Pokemon.softDelete} and {@code Pokemon.deleteTemp} named queries
+ * and {@link PokemonImporter} must be followed by {@link #rebuild(EntityManagerFactory)}. Rebuild is also the way to initialize
+ * the statistics of existing data.
+ * <p>
+ * Trainers without Pokemons have no statistics row, both after rebuild and after their last Pokemon was removed.
+ */
+public final class Leaderboard {
+
+    // Single trainer statistics, the only parameter is the trainer ID
+    static final String REBUILD_TRAINER
+            = "INSERT INTO TRAINER_STATS (TRAINER_ID, POKEMON_COUNT, TOTAL_HP, ALIVE_COUNT)"
+            + " SELECT TRAINER_ID, COUNT(ID), SUM(HP), SUM(CASE WHEN ALIVE = TRUE THEN 1 ELSE 0 END)"
+            + " FROM POKEMNON WHERE TRAINER_ID = ? AND DELETED = FALSE GROUP BY TRAINER_ID";
+    private static final String REBUILD
+            = "INSERT INTO TRAINER_STATS (TRAINER_ID, POKEMON_COUNT, TOTAL_HP, ALIVE_COUNT)"
+            + " SELECT TRAINER_ID, COUNT(ID), SUM(HP), SUM(CASE WHEN ALIVE = TRUE THEN 1 ELSE 0 END)"
+            + " FROM POKEMNON WHERE TRAINER_ID IS NOT NULL AND DELETED = FALSE GROUP BY TRAINER_ID";
+    private static final String CLEAR = "DELETE FROM TRAINER_STATS";
+
+    private Leaderboard() {
+        throw new UnsupportedOperationException("No instances of Leaderboard are allowed");
+    }
+
+    /**
+     * {@link EntityManagerFactory} properties registering incremental maintenance of {@link TrainerStats}.
+     *
+     * @return {@link EntityManagerFactory} properties
+     */
+    public static Map<String, Object> properties() {
+        IntegratorProvider provider = () -> List.of(new TrainerStatsIntegrator());
+        return Map.of("hibernate.integrator_provider", provider);
+    }
+
+    /**
+     * Statistics of single trainer.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param trainerId ID of the trainer
+     * @return statistics of the trainer or empty value when the trainer has no Pokemons
+     */
+    public static Optional<TrainerStats> trainer(EntityManager em, int trainerId) {
+        return Optional.ofNullable(em.find(TrainerStats.class, trainerId));
+    }
+
+    /**
+     * Trainers with the highest total {@code hp} of their Pokemons.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param limit maximum number of returned trainers
+     * @return trainer statistics ordered by total {@code hp} descending
+     */
+    public static List<TrainerStats> topTrainers(EntityManager em, int limit) {
+        return em.createNamedQuery("TrainerStats.topByHp", TrainerStats.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Statistics of all teams summed from the trainer statistics.
+     * Trainers without team are not counted. Type distribution is not materialized and is always empty.
+     *
+     * @param em JPA {@link EntityManager}
+     * @return statistics of the teams mapped by team ID
+     */
+    public static Map<Integer, TeamStatistics> teams(EntityManager em) {
+        Map<Integer, TeamStatistics> result = new TreeMap<>();
+        List<Object[]> rows = em.createNamedQuery("TrainerStats.byTeam", Object[].class)
+                .getResultList();
+        for (Object[] row : rows) {
+            TeamStatistics statistics = new TeamStatistics((Integer) row[0]);
+            statistics.add((Long) row[1], (Long) row[2], (Long) row[3]);
+            result.put(statistics.getTeamId(), statistics);
+        }
+        return result;
+    }
+
+    /**
+     * Replace all trainer statistics with statistics aggregated from current Pokemons.
+     * Runs in single transaction, concurrent {@link Pokemon} changes committed meanwhile may be lost
+     * and the job should run while Pokemons are not modified.
+     *
+     * @param emf JPA {@link EntityManagerFactory}
+     * @return number of trainer statistics rows
+     */
+    public static int rebuild(EntityManagerFactory emf) {
+        try (EntityManager em = emf.createEntityManager()) {
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            try {
+                update(em, CLEAR);
+                int rows = update(em, REBUILD);
+                et.commit();
+                return rows;
+            } catch (Exception e) {
+                et.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private static int update(EntityManager em, String sql) {
+        Query query = em.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(TrainerStats.class);
+        return query.executeUpdate();
+    }
+
+    private static final class TrainerStatsIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata,
+                              BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            TrainerStatsListener listener = new TrainerStatsListener();
+            EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_INSERT, listener);
+            registry.appendListeners(EventType.POST_UPDATE, listener);
+            registry.appendListeners(EventType.POST_DELETE, listener);
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                 SessionFactoryServiceRegistry serviceRegistry) {
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single page of a keyset paginated listing.
+ *
+ * @param <T> type of the page items
+ */
+public final class Page<T> {
+
+    private final List<T> items;
+    private final String nextToken;
+
+    Page(List<T> items, String nextToken) {
+        this.items = List.copyOf(items);
+        this.nextToken = nextToken;
+    }
+
+    /**
+     * Items of this page in listing order.
+     *
+     * @return page items
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Opaque continuation token to retrieve the next page.
+     *
+     * @return token of the next page or empty value when this is the last page
+     */
+    public Optional<String> getNextToken() {
+        return Optional.ofNullable(nextToken);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(this.getClass().getSimpleName());
+        sb.append(" {items=");
+        sb.append(items.size());
+        sb.append(", next=");
+        sb.append(nextToken);
+        sb.append("}");
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+
+/**
+ * Compact binary encoding of detached {@link Pokemon} graphs.
+ * <p>
+ * Graph contains {@link Pokemon}s with their {@link Trainer}s, {@link Team}s and {@link Type}s.
+ * All integers are written as zig-zag varints and strings as UTF-8 with varint length.
+ * {@link Trainer}, {@link Team} and {@link Type} with the same ID are written only once,
+ * every other occurrence is a reference to the table of already written instances.
+ * Fields are accessed explicitly, no reflection is used.
+ * <p>
+ * Decoded graph shares single instance for each {@link Trainer}, {@link Team} and {@link Type} ID.
+ * {@link Pokemon} types are decoded into a mutable list, so decoded {@link Pokemon}s may be merged
+ * into a persistence context. Lazy inverse {@link Trainer#getPokemons()} collection is not encoded.
+ */
+public final class PokemonCodec {
+
+    private static final int VERSION = 1;
+    // Reference slots: null, new instance follows, back reference index starts at REFERENCE
+    private static final int NULL = 0;
+    private static final int NEW = 1;
+    private static final int REFERENCE = 2;
+    private static final int ALIVE = 1;
+    private static final int NULL_TYPES = 2;
+
+    private PokemonCodec() {
+        throw new UnsupportedOperationException("No instances of PokemonCodec are allowed");
+    }
+
+    /**
+     * Encode {@link Pokemon}s with their associations.
+     *
+     * @param pokemons {@link Pokemon}s to encode
+     * @return encoded graph
+     */
+    public static byte[] encode(Collection<Pokemon> pokemons) {
+        Encoder encoder = new Encoder(16 + 32 * pokemons.size());
+        encoder.writeVarInt(VERSION);
+        encoder.writeVarInt(pokemons.size());
+        for (Pokemon pokemon : pokemons) {
+            encoder.writePokemon(pokemon);
+        }
+        return encoder.toByteArray();
+    }
+
+    /**
+     * Decode {@link Pokemon}s with their associations.
+     *
+     * @param data encoded graph
+     * @return decoded {@link Pokemon}s in the order of encoding
+     * @throws IllegalArgumentException when data are not valid encoded graph
+     */
+    public static List<Pokemon> decode(byte[] data) {
+        Decoder decoder = new Decoder(data);
+        try {
+            int version = decoder.readVarInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported encoding version " + version);
+            }
+            int count = decoder.readCount();
+            List<Pokemon> pokemons = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                pokemons.add(decoder.readPokemon());
+            }
+            if (decoder.position != data.length) {
+                throw new IllegalArgumentException("Trailing bytes after encoded graph");
+            }
+            return pokemons;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated encoded graph", e);
+        }
+    }
+
+    private static final class Encoder {
+
+        private final Map<Integer, Integer> trainers = new HashMap<>();
+        private final Map<Integer, Integer> teams = new HashMap<>();
+        private final Map<Integer, Integer> types = new HashMap<>();
+        private byte[] buffer;
+        private int position;
+
+        private Encoder(int capacity) {
+            this.buffer = new byte[capacity];
+            this.position = 0;
+        }
+
+        private void writePokemon(Pokemon pokemon) {
+            writeVarInt(pokemon.getId());
+            writeString(pokemon.getName());
+            writeVarInt(pokemon.getHp());
+            Collection<Type> pokemonTypes = pokemon.getTypes();
+            writeVarInt((pokemon.isAlive() ? ALIVE : 0) | (pokemonTypes == null ? NULL_TYPES : 0));
+            writeTrainer(pokemon.getTrainer());
+            if (pokemonTypes != null) {
+                writeVarInt(pokemonTypes.size());
+                for (Type type : pokemonTypes) {
+                    writeType(type);
+                }
+            }
+        }
+
+        private void writeTrainer(Trainer trainer) {
+            if (writeReference(trainers, trainer == null ? null : trainer.getId())) {
+                writeVarInt(trainer.getId());
+                writeString(trainer.getName());
+                writeTeam(trainer.getTeam());
+            }
+        }
+
+        private void writeTeam(Team team) {
+            if (writeReference(teams, team == null ? null : team.getId())) {
+                writeVarInt(team.getId());
+                writeString(team.getName());
+            }
+        }
+
+        private void writeType(Type type) {
+            if (writeReference(types, type == null ? null : type.getId())) {
+                writeVarInt(type.getId());
+                writeString(type.getName());
+            }
+        }
+
+        // Returns true when new instance must be written
+        private boolean writeReference(Map<Integer, Integer> table, Integer id) {
+            if (id == null) {
+                writeVarInt(NULL);
+                return false;
+            }
+            Integer index = table.get(id);
+            if (index != null) {
+                writeVarInt(REFERENCE + index);
+                return false;
+            }
+            table.put(id, table.size());
+            writeVarInt(NEW);
+            return true;
+        }
+
+        private void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        // Zig-zag encoding keeps small negative values (e.g. default -1 IDs) short
+        private void writeVarInt(int value) {
+            ensureCapacity(5);
+            int zigZag = (value << 1) ^ (value >> 31);
+            while ((zigZag & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+                zigZag >>>= 7;
+            }
+            buffer[position++] = (byte) zigZag;
+        }
+
+        private void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+    }
+
+    private static final class Decoder {
+
+        private final List<Trainer> trainers = new ArrayList<>();
+        private final List<Team> teams = new ArrayList<>();
+        private final List<Type> types = new ArrayList<>();
+        private final byte[] data;
+        private int position;
+
+        private Decoder(byte[] data) {
+            this.data = data;
+            this.position = 0;
+        }
+
+        private Pokemon readPokemon() {
+            int id = readVarInt();
+            String name = readString();
+            int hp = readVarInt();
+            int flags = readVarInt();
+            Trainer trainer = readTrainer();
+            List<Type> pokemonTypes = null;
+            if ((flags & NULL_TYPES) == 0) {
+                int count = readCount();
+                pokemonTypes = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    pokemonTypes.add(readType());
+                }
+            }
+            return new Pokemon(id, trainer, name, hp, (flags & ALIVE) != 0, pokemonTypes);
+        }
+
+        private Trainer readTrainer() {
+            int slot = readVarInt();
+            if (slot == NEW) {
+                Trainer trainer = new Trainer();
+                // Register before nested reads to keep table order of the encoder
+                trainers.add(trainer);
+                trainer.setId(readVarInt());
+                trainer.setName(readString());
+                trainer.setTeam(readTeam());
+                return trainer;
+            }
+            return reference(trainers, slot);
+        }
+
+        private Team readTeam() {
+            int slot = readVarInt();
+            if (slot == NEW) {
+                Team team = new Team(readVarInt(), readString());
+                teams.add(team);
+                return team;
+            }
+            return reference(teams, slot);
+        }
+
+        private Type readType() {
+            int slot = readVarInt();
+            if (slot == NEW) {
+                Type type = new Type(readVarInt(), readString());
+                types.add(type);
+                return type;
+            }
+            return reference(types, slot);
+        }
+
+        private static <T> T reference(List<T> table, int slot) {
+            if (slot == NULL) {
+                return null;
+            }
+            int index = slot - REFERENCE;
+            if (index < 0 || index >= table.size()) {
+                throw new IllegalArgumentException("Invalid instance reference " + slot);
+            }
+            return table.get(index);
+        }
+
+        private String readString() {
+            int length = readLength();
+            if (length == 0) {
+                return null;
+            }
+            length--;
+            if (length > data.length - position) {
+                throw new IllegalArgumentException("Truncated encoded graph");
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        // Each counted element takes at least one byte, larger counts are rejected before allocation
+        private int readCount() {
+            int count = readLength();
+            if (count > data.length - position) {
+                throw new IllegalArgumentException("Count " + count + " exceeds remaining "
+                                                           + (data.length - position) + " bytes");
+            }
+            return count;
+        }
+
+        private int readLength() {
+            int length = readVarInt();
+            if (length < 0) {
+                throw new IllegalArgumentException("Negative length " + length);
+            }
+            return length;
+        }
+
+        private int readVarInt() {
+            int zigZag = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = data[position++];
+                zigZag |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return (zigZag >>> 1) ^ -(zigZag & 1);
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+    }
+
+}
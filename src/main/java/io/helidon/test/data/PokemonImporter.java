@@ -0,0 +1,511 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * Bulk import of {@link io.helidon.test.model.Pokemon} rosters from CSV files.
+ * <p>
+ * Rows are written directly into {@code POKEMNON} and {@code POKEMNON_TYPE} tables using JDBC batches,
+ * no entity is instantiated and persistence context is not involved. File is read through memory mapped
+ * windows and fields are parsed from bytes. Trainer and type references are validated against ID sets
+ * preloaded from {@code TRAINER} and {@code TYPE} tables, rows with unknown references are rejected.
+ * <p>
+ * CSV format is {@code id,trainer_id,name,hp,alive,types} with optional header line. Empty {@code trainer_id}
+ * means no trainer, {@code name} may be quoted, {@code alive} is {@code true}/{@code false} in any letter case
+ * or {@code 1}/{@code 0} and {@code types} is {@code |} separated list of type IDs.
+ */
+public final class PokemonImporter {
+
+    private static final String TRAINER_IDS = "SELECT ID FROM TRAINER";
+    private static final String TYPE_IDS = "SELECT ID FROM TYPE";
+    private static final String INSERT_POKEMON
+            = "INSERT INTO POKEMNON (ID, NAME, HP, ALIVE, DELETED, TRAINER_ID) VALUES (?, ?, ?, ?, FALSE, ?)";
+    private static final String INSERT_TYPE
+            = "INSERT INTO POKEMNON_TYPE (POKEMNON_ID, TYPE_ID) VALUES (?, ?)";
+    // No-op statement executed by Hibernate only to invalidate query spaces of the imported tables
+    private static final String TOUCH_POKEMONS = "DELETE FROM POKEMNON WHERE 1 = 0";
+    private static final long DEFAULT_WINDOW = 64L * 1024 * 1024;
+    private static final int MAX_TYPES = 32;
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private final int batchSize;
+    private final long window;
+    private final Listener listener;
+
+    /**
+     * Creates an instance of Pokemon importer.
+     *
+     * @param batchSize number of rows written in single JDBC batch
+     * @param listener import progress listener notified after each batch
+     */
+    public PokemonImporter(int batchSize, Listener listener) {
+        this(batchSize, DEFAULT_WINDOW, listener);
+    }
+
+    /**
+     * Creates an instance of Pokemon importer.
+     *
+     * @param batchSize number of rows written in single JDBC batch
+     * @param window size of the memory mapped file window in bytes, limits maximum line length
+     * @param listener import progress listener notified after each batch
+     */
+    public PokemonImporter(int batchSize, long window, Listener listener) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+        }
+        if (window < 1 || window > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid mapped window size " + window);
+        }
+        this.batchSize = batchSize;
+        this.window = window;
+        this.listener = listener;
+    }
+
+    /**
+     * Import CSV file using connection of the current {@link EntityManager} transaction.
+     * Query cache spaces of {@code POKEMNON} and {@code POKEMNON_TYPE} tables are invalidated
+     * when the transaction completes, because the rows are written without Hibernate knowing about them.
+     *
+     * @param em JPA {@link EntityManager} with active transaction
+     * @param file CSV file
+     * @return import result
+     * @throws UncheckedIOException when file cannot be read
+     * @throws IllegalArgumentException when file contains malformed row
+     */
+    public Result importFile(EntityManager em, Path file) {
+        // Native update with synchronized query spaces: cached results of the spaces are not used
+        // from now on and are invalidated again when the transaction completes
+        Query touch = em.createNativeQuery(TOUCH_POKEMONS);
+        touch.unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("POKEMNON")
+                .addSynchronizedQuerySpace("POKEMNON_TYPE");
+        touch.executeUpdate();
+        Session session = em.unwrap(Session.class);
+        return session.doReturningWork(connection -> {
+            try {
+                return importFile(connection, file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Import CSV file using provided JDBC connection.
+     * Import is not committed, transaction handling is up to the caller.
+     *
+     * @param connection JDBC connection
+     * @param file CSV file
+     * @return import result
+     * @throws IOException when file cannot be read
+     * @throws SQLException when database access failed
+     * @throws IllegalArgumentException when file contains malformed row
+     */
+    public Result importFile(Connection connection, Path file) throws IOException, SQLException {
+        long start = System.nanoTime();
+        int[] trainerIds = loadIds(connection, TRAINER_IDS);
+        int[] typeIds = loadIds(connection, TYPE_IDS);
+        Row row = new Row();
+        long imported = 0;
+        long rejected = 0;
+        int batched = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                PreparedStatement pokemons = connection.prepareStatement(INSERT_POKEMON);
+                PreparedStatement types = connection.prepareStatement(INSERT_TYPE)) {
+            long size = channel.size();
+            long offset = 0;
+            long line = 0;
+            while (offset < size) {
+                long length = Math.min(window, size - offset);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                boolean last = offset + length == size;
+                int position = 0;
+                while (position < length) {
+                    int end = lineEnd(buffer, position, (int) length);
+                    if (end < 0) {
+                        if (!last) {
+                            break;
+                        }
+                        end = (int) length;
+                    }
+                    line++;
+                    if (end > position && !(line == 1 && isHeader(buffer, position))) {
+                        row.parse(buffer, position, end, line);
+                        if (row.isValid(trainerIds, typeIds)) {
+                            row.addBatch(pokemons, types);
+                            imported++;
+                            if (++batched == batchSize) {
+                                pokemons.executeBatch();
+                                types.executeBatch();
+                                batched = 0;
+                                listener.progress(imported, rejected, System.nanoTime() - start);
+                            }
+                        } else {
+                            rejected++;
+                        }
+                    }
+                    position = end + 1;
+                }
+                if (position == 0 && !last) {
+                    throw new IllegalArgumentException("Line " + (line + 1) + " is longer than " + window + " bytes");
+                }
+                offset += Math.min(position, length);
+            }
+            if (batched > 0) {
+                pokemons.executeBatch();
+                types.executeBatch();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        listener.progress(imported, rejected, elapsed);
+        return new Result(imported, rejected, elapsed);
+    }
+
+    private static int[] loadIds(Connection connection, String sql) throws SQLException {
+        int[] ids = new int[256];
+        int count = 0;
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count++] = rs.getInt(1);
+            }
+        }
+        ids = Arrays.copyOf(ids, count);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    // Index of the line feed or -1 when the line is not terminated in the buffer
+    private static int lineEnd(MappedByteBuffer buffer, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isHeader(MappedByteBuffer buffer, int position) {
+        byte first = buffer.get(position);
+        return first != '-' && (first < '0' || first > '9');
+    }
+
+    /**
+     * Import progress listener.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Import progress notification.
+         *
+         * @param imported number of imported rows
+         * @param rejected number of rejected rows
+         * @param elapsed time elapsed since the import started in nanoseconds
+         */
+        void progress(long imported, long rejected, long elapsed);
+
+    }
+
+    /**
+     * Import result.
+     */
+    public static final class Result {
+
+        private final long imported;
+        private final long rejected;
+        private final long elapsed;
+
+        private Result(long imported, long rejected, long elapsed) {
+            this.imported = imported;
+            this.rejected = rejected;
+            this.elapsed = elapsed;
+        }
+
+        /**
+         * Number of imported rows.
+         *
+         * @return imported rows
+         */
+        public long getImported() {
+            return imported;
+        }
+
+        /**
+         * Number of rows rejected because of unknown trainer or type reference.
+         *
+         * @return rejected rows
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * Import duration in nanoseconds.
+         *
+         * @return import duration
+         */
+        public long getElapsed() {
+            return elapsed;
+        }
+
+        /**
+         * Import throughput.
+         *
+         * @return imported rows per second
+         */
+        public double getRowsPerSecond() {
+            return elapsed > 0 ? imported * 1_000_000_000.0 / elapsed : 0;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(this.getClass().getSimpleName());
+            sb.append(" {imported=");
+            sb.append(imported);
+            sb.append(", rejected=");
+            sb.append(rejected);
+            sb.append(", rows/s=");
+            sb.append(Math.round(getRowsPerSecond()));
+            sb.append("}");
+            return sb.toString();
+        }
+
+    }
+
+    // Fields of single CSV row, reused for all rows
+    private static final class Row {
+
+        private final int[] types = new int[MAX_TYPES];
+        private int id;
+        private boolean hasTrainer;
+        private int trainerId;
+        private String name;
+        private int hp;
+        private boolean alive;
+        private int typeCount;
+        // Parser state
+        private MappedByteBuffer buffer;
+        private int position;
+        private int end;
+        private long line;
+
+        private void parse(MappedByteBuffer buffer, int from, int to, long line) {
+            this.buffer = buffer;
+            this.position = from;
+            // Tolerate CRLF line endings
+            this.end = to > from && buffer.get(to - 1) == '\r' ? to - 1 : to;
+            this.line = line;
+            id = parseInt(fieldEnd());
+            int trainerEnd = fieldEnd();
+            hasTrainer = trainerEnd > position;
+            trainerId = hasTrainer ? parseInt(trainerEnd) : 0;
+            if (!hasTrainer) {
+                position = trainerEnd + 1;
+            }
+            name = parseString();
+            hp = parseInt(fieldEnd());
+            // Types field with its separator may be omitted
+            int aliveEnd = position;
+            while (aliveEnd < end && buffer.get(aliveEnd) != ',') {
+                aliveEnd++;
+            }
+            alive = parseBoolean(aliveEnd);
+            typeCount = 0;
+            while (position < end) {
+                int typeEnd = position;
+                while (typeEnd < end && buffer.get(typeEnd) != '|') {
+                    typeEnd++;
+                }
+                if (typeCount == MAX_TYPES) {
+                    throw malformed("more than " + MAX_TYPES + " types");
+                }
+                types[typeCount++] = parseInt(typeEnd);
+            }
+        }
+
+        private boolean isValid(int[] trainerIds, int[] typeIds) {
+            if (hasTrainer && Arrays.binarySearch(trainerIds, trainerId) < 0) {
+                return false;
+            }
+            for (int i = 0; i < typeCount; i++) {
+                if (Arrays.binarySearch(typeIds, types[i]) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void addBatch(PreparedStatement pokemons, PreparedStatement pokemonTypes) throws SQLException {
+            pokemons.setInt(1, id);
+            pokemons.setString(2, name);
+            pokemons.setInt(3, hp);
+            pokemons.setBoolean(4, alive);
+            if (hasTrainer) {
+                pokemons.setInt(5, trainerId);
+            } else {
+                pokemons.setNull(5, Types.INTEGER);
+            }
+            pokemons.addBatch();
+            for (int i = 0; i < typeCount; i++) {
+                pokemonTypes.setInt(1, id);
+                pokemonTypes.setInt(2, types[i]);
+                pokemonTypes.addBatch();
+            }
+        }
+
+        // End of unquoted field
+        private int fieldEnd() {
+            int i = position;
+            while (i < end && buffer.get(i) != ',') {
+                i++;
+            }
+            if (i == end) {
+                throw malformed("missing fields");
+            }
+            return i;
+        }
+
+        // Parses int in [position, to) and moves position behind the separator
+        private int parseInt(int to) {
+            if (to == position) {
+                throw malformed("empty number");
+            }
+            boolean negative = buffer.get(position) == '-';
+            int i = negative ? position + 1 : position;
+            if (i == to) {
+                throw malformed("invalid number");
+            }
+            long value = 0;
+            for (; i < to; i++) {
+                int digit = buffer.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw malformed("invalid number");
+                }
+                value = value * 10 + digit;
+                if (value > Integer.MAX_VALUE + 1L) {
+                    throw malformed("number out of range");
+                }
+            }
+            value = negative ? -value : value;
+            if (value > Integer.MAX_VALUE) {
+                throw malformed("number out of range");
+            }
+            position = to + 1;
+            return (int) value;
+        }
+
+        private boolean parseBoolean(int to) {
+            int length = to - position;
+            byte first = length > 0 ? buffer.get(position) : 0;
+            boolean value;
+            if (length == 1 && (first == '1' || first == '0')) {
+                value = first == '1';
+            } else if (matches(TRUE, to)) {
+                value = true;
+            } else if (matches(FALSE, to)) {
+                value = false;
+            } else {
+                throw malformed("invalid boolean");
+            }
+            position = to + 1;
+            return value;
+        }
+
+        // Case-insensitive match of [position, to) with lower case ASCII letters
+        private boolean matches(byte[] letters, int to) {
+            if (to - position != letters.length) {
+                return false;
+            }
+            for (int i = 0; i < letters.length; i++) {
+                if ((buffer.get(position + i) | 0x20) != letters[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Plain or quoted string field, empty unquoted field is null
+        private String parseString() {
+            if (position < end && buffer.get(position) == '"') {
+                byte[] bytes = new byte[end - position];
+                int length = 0;
+                int i = position + 1;
+                while (true) {
+                    if (i >= end) {
+                        throw malformed("unterminated quoted field");
+                    }
+                    byte b = buffer.get(i++);
+                    if (b == '"') {
+                        if (i < end && buffer.get(i) == '"') {
+                            bytes[length++] = '"';
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        bytes[length++] = b;
+                    }
+                }
+                if (i >= end || buffer.get(i) != ',') {
+                    throw malformed("missing fields");
+                }
+                position = i + 1;
+                return new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+            int to = fieldEnd();
+            String value = null;
+            if (to > position) {
+                byte[] bytes = new byte[to - position];
+                buffer.get(position, bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            position = to + 1;
+            return value;
+        }
+
+        private IllegalArgumentException malformed(String reason) {
+            return new IllegalArgumentException("Malformed row on line " + line + ": " + reason);
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+
+/**
+ * Read-only loading of entities for reports.
+ * <p>
+ * Hibernate keeps a snapshot of the loaded state of every managed entity and its collections to detect
+ * changes at flush. Entities loaded read-only have no snapshot and are skipped by the dirty checking,
+ * so large report reads (e.g. whole trainer rosters) retain less memory and flush faster.
+ * Changes of read-only entities are never written to the database.
+ */
+public final class ReadOnly {
+
+    /**
+     * Query hint loading the query result read-only.
+     */
+    public static final String HINT = "org.hibernate.readOnly";
+
+    private ReadOnly() {
+        throw new UnsupportedOperationException("No instances of ReadOnly are allowed");
+    }
+
+    /**
+     * Load all entities read-only by default in the persistence context of the {@link EntityManager}.
+     * Entities already managed by the persistence context are not changed.
+     *
+     * @param em JPA {@link EntityManager}
+     * @return the {@link EntityManager}
+     */
+    public static EntityManager session(EntityManager em) {
+        em.unwrap(Session.class).setDefaultReadOnly(true);
+        return em;
+    }
+
+    /**
+     * Load result of the query read-only.
+     *
+     * @param query the query
+     * @return the query
+     * @param <T> query result type
+     */
+    public static <T> TypedQuery<T> query(TypedQuery<T> query) {
+        return query.setHint(HINT, true);
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.List;
+
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * Physical removal of soft deleted {@link Pokemon}s.
+ * <p>
+ * {@code Pokemon.softDelete} named query only marks the rows as deleted in single UPDATE
+ * and leaves {@code POKEMNON_TYPE} join rows untouched. Compactor purges marked rows
+ * together with their {@code POKEMNON_TYPE} join rows in batches, each batch in its own
+ * transaction, so it may run in the background off-peak without holding long locks.
+ * <p>
+ * {@code DELETED} column is not indexed, H2 has no partial indexes and an index on the flag would be
+ * chosen for every query filtering out soft deleted rows. Each batch continues the primary key scan
+ * after the last ID of the previous batch instead, so single purge reads the table once.
+ * Rows soft deleted behind the scan during the purge are left for the next purge.
+ */
+public final class SoftDeleteCompactor {
+
+    private static final String DELETED_IDS
+            = "SELECT ID FROM POKEMNON WHERE DELETED = TRUE AND ID >= :first ORDER BY ID";
+    private static final String PURGE_TYPES
+            = "DELETE FROM POKEMNON_TYPE WHERE POKEMNON_ID IN (:ids)";
+    private static final String PURGE_POKEMONS
+            = "DELETE FROM POKEMNON WHERE DELETED = TRUE AND ID IN (:ids)";
+
+    private final EntityManagerFactory emf;
+    private final int batchSize;
+
+    /**
+     * Creates an instance of soft deleted rows compactor.
+     *
+     * @param emf JPA {@link EntityManagerFactory}
+     * @param batchSize maximum number of {@link Pokemon}s purged in single transaction
+     * @throws IllegalArgumentException when batch size is not positive
+     */
+    public SoftDeleteCompactor(EntityManagerFactory emf, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+        }
+        this.emf = emf;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Purge all soft deleted {@link Pokemon}s.
+     *
+     * @return number of purged {@link Pokemon}s
+     */
+    public long purge() {
+        long total = 0;
+        int first = Integer.MIN_VALUE;
+        while (true) {
+            Batch batch = purgeBatch(first);
+            total += batch.purged;
+            if (batch.lastId == null || batch.lastId == Integer.MAX_VALUE) {
+                return total;
+            }
+            first = batch.lastId + 1;
+        }
+    }
+
+    /**
+     * Purge single batch of soft deleted {@link Pokemon}s with the lowest IDs.
+     *
+     * @return number of purged {@link Pokemon}s
+     */
+    public int purgeBatch() {
+        return purgeBatch(Integer.MIN_VALUE).purged;
+    }
+
+    private Batch purgeBatch(int first) {
+        try (EntityManager em = emf.createEntityManager()) {
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            try {
+                @SuppressWarnings("unchecked")
+                List<Integer> ids = em.createNativeQuery(DELETED_IDS, Integer.class)
+                        .setParameter("first", first)
+                        .setMaxResults(batchSize)
+                        .getResultList();
+                int purged = 0;
+                if (!ids.isEmpty()) {
+                    update(em, PURGE_TYPES, ids);
+                    purged = update(em, PURGE_POKEMONS, ids);
+                }
+                et.commit();
+                // Last batch is not full
+                return new Batch(purged, ids.size() < batchSize ? null : ids.get(ids.size() - 1));
+            } catch (Exception e) {
+                et.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // Purged rows are already invisible, so only Pokemon query cache spaces are invalidated
+    private static int update(EntityManager em, String sql, List<Integer> ids) {
+        Query query = em.createNativeQuery(sql)
+                .setParameter("ids", ids);
+        query.unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Pokemon.class);
+        return query.executeUpdate();
+    }
+
+    // Number of purged rows and last scanned ID or null when there are no more deleted rows
+    private static final class Batch {
+
+        private final int purged;
+        private final Integer lastId;
+
+        private Batch(int purged, Integer lastId) {
+            this.purged = purged;
+            this.lastId = lastId;
+        }
+
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+
+/**
+ * Per {@link io.helidon.test.model.Team} aggregation of {@link io.helidon.test.model.Pokemon} statistics.
+ * <p>
+ * Aggregation is computed by the database over ranges of {@code POKEMNON} IDs. Parallel aggregation
+ * splits the table into ranges holding the same number of rows, which are processed by a fork-join pool,
+ * each range with its own {@link EntityManager} and connection, and partial results are combined.
+ * All aggregates are sums, so the result does not depend on the way the table was split.
+ * Totals and type distribution of a range are read by a single statement in a read-only transaction,
+ * so they always describe the same rows even under concurrent changes.
+ * <p>
+ * {@link io.helidon.test.model.Pokemon}s without trainer or with trainer without team are not counted.
+ */
+public final class StatisticsAggregator {
+
+    // Last ID of the range is read at offset of the range size, the scan does not depend on gaps in IDs
+    private static final String RANGE_IDS
+            = "SELECT p.id FROM Pokemon p WHERE p.id >= :first ORDER BY p.id";
+    // Team totals have kind 0, type counts have kind 1
+    private static final String TEAM_STATISTICS
+            = "SELECT 0, tm.id, 0, COUNT(p), SUM(p.hp), SUM(CASE WHEN p.alive = true THEN 1 ELSE 0 END)"
+            + " FROM Pokemon p JOIN p.trainer t JOIN t.team tm"
+            + " WHERE p.id BETWEEN :first AND :last"
+            + " GROUP BY tm.id"
+            + " UNION ALL"
+            + " SELECT 1, tm.id, ty.id, COUNT(p), 0L, 0L"
+            + " FROM Pokemon p JOIN p.trainer t JOIN t.team tm JOIN p.types ty"
+            + " WHERE p.id BETWEEN :first AND :last"
+            + " GROUP BY tm.id, ty.id";
+
+    private final EntityManagerFactory emf;
+
+    /**
+     * Creates an instance of statistics aggregator.
+     *
+     * @param emf JPA {@link EntityManagerFactory} used to create {@link EntityManager} for each ID range
+     */
+    public StatisticsAggregator(EntityManagerFactory emf) {
+        this.emf = emf;
+    }
+
+    /**
+     * Aggregate statistics of all teams in the calling thread.
+     *
+     * @return statistics mapped by team ID
+     */
+    public Map<Integer, TeamStatistics> aggregate() {
+        return aggregateRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Aggregate statistics of all teams in parallel.
+     * Pool parallelism should not exceed the size of the connection pool.
+     *
+     * @param pool fork-join pool running the range queries
+     * @param rangeSize maximum number of Pokemons queried by a single task
+     * @return statistics mapped by team ID
+     * @throws IllegalArgumentException when range size is not positive
+     */
+    public Map<Integer, TeamStatistics> aggregate(ForkJoinPool pool, int rangeSize) {
+        if (rangeSize < 1) {
+            throw new IllegalArgumentException("Range size must be positive, got " + rangeSize);
+        }
+        List<Integer> firstIds = rangeFirstIds(rangeSize);
+        return pool.invoke(new RangeTask(firstIds, 0, firstIds.size()));
+    }
+
+    // First IDs of consecutive ranges of rangeSize Pokemons, the ranges cover whole ID space
+    private List<Integer> rangeFirstIds(int rangeSize) {
+        List<Integer> firstIds = new ArrayList<>();
+        firstIds.add(Integer.MIN_VALUE);
+        try (EntityManager em = emf.createEntityManager()) {
+            while (true) {
+                List<Integer> last = em.createQuery(RANGE_IDS, Integer.class)
+                        .setParameter("first", firstIds.get(firstIds.size() - 1))
+                        .setFirstResult(rangeSize - 1)
+                        .setMaxResults(1)
+                        .getResultList();
+                if (last.isEmpty() || last.get(0) == Integer.MAX_VALUE) {
+                    return firstIds;
+                }
+                firstIds.add(last.get(0) + 1);
+            }
+        }
+    }
+
+    private Map<Integer, TeamStatistics> aggregateRange(int first, int last) {
+        Map<Integer, TeamStatistics> result = new TreeMap<>();
+        try (EntityManager em = ReadOnly.session(emf.createEntityManager())) {
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            try {
+                List<Object[]> rows = em.createQuery(TEAM_STATISTICS, Object[].class)
+                        .setParameter("first", first)
+                        .setParameter("last", last)
+                        .getResultList();
+                et.commit();
+                for (Object[] row : rows) {
+                    TeamStatistics statistics = result.computeIfAbsent(((Number) row[1]).intValue(),
+                                                                       TeamStatistics::new);
+                    if (((Number) row[0]).intValue() == 0) {
+                        statistics.add(((Number) row[3]).longValue(),
+                                       ((Number) row[4]).longValue(),
+                                       ((Number) row[5]).longValue());
+                    } else {
+                        statistics.addType(((Number) row[2]).intValue(),
+                                           ((Number) row[3]).longValue());
+                    }
+                }
+            } catch (Exception e) {
+                if (et.isActive()) {
+                    et.rollback();
+                }
+                throw e;
+            }
+        }
+        return result;
+    }
+
+    private static Map<Integer, TeamStatistics> combine(Map<Integer, TeamStatistics> left,
+                                                        Map<Integer, TeamStatistics> right) {
+        right.forEach((teamId, statistics) -> {
+            TeamStatistics existing = left.putIfAbsent(teamId, statistics);
+            if (existing != null) {
+                existing.merge(statistics);
+            }
+        });
+        return left;
+    }
+
+    // Splits list of ranges in halves until single range is left
+    private final class RangeTask extends RecursiveTask<Map<Integer, TeamStatistics>> {
+
+        private final List<Integer> firstIds;
+        private final int from;
+        private final int to;
+
+        private RangeTask(List<Integer> firstIds, int from, int to) {
+            this.firstIds = firstIds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Integer, TeamStatistics> compute() {
+            if (to - from == 1) {
+                int last = to < firstIds.size() ? firstIds.get(to) - 1 : Integer.MAX_VALUE;
+                return aggregateRange(firstIds.get(from), last);
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(firstIds, from, middle);
+            RangeTask right = new RangeTask(firstIds, middle, to);
+            left.fork();
+            Map<Integer, TeamStatistics> rightResult = right.compute();
+            return combine(left.join(), rightResult);
+        }
+
+    }
+
+}
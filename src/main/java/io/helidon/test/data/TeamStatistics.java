@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Aggregated statistics of {@link io.helidon.test.model.Pokemon}s of a single
+ * {@link io.helidon.test.model.Team}.
+ */
+public final class TeamStatistics {
+
+    private final int teamId;
+    private long count;
+    private long totalHp;
+    private long aliveCount;
+    // Sorted to keep toString output and iteration stable
+    private final Map<Integer, Long> typeDistribution;
+
+    TeamStatistics(int teamId) {
+        this.teamId = teamId;
+        this.count = 0;
+        this.totalHp = 0;
+        this.aliveCount = 0;
+        this.typeDistribution = new TreeMap<>();
+    }
+
+    /**
+     * ID of the {@link io.helidon.test.model.Team}.
+     *
+     * @return team ID
+     */
+    public int getTeamId() {
+        return teamId;
+    }
+
+    /**
+     * Number of {@link io.helidon.test.model.Pokemon}s of the team.
+     *
+     * @return number of pokemons
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Sum of hp of all {@link io.helidon.test.model.Pokemon}s of the team.
+     *
+     * @return total hp
+     */
+    public long getTotalHp() {
+        return totalHp;
+    }
+
+    /**
+     * Number of alive {@link io.helidon.test.model.Pokemon}s of the team.
+     *
+     * @return number of alive pokemons
+     */
+    public long getAliveCount() {
+        return aliveCount;
+    }
+
+    /**
+     * Number of {@link io.helidon.test.model.Pokemon}s of the team for each
+     * {@link io.helidon.test.model.Type} ID.
+     *
+     * @return type distribution
+     */
+    public Map<Integer, Long> getTypeDistribution() {
+        return Collections.unmodifiableMap(typeDistribution);
+    }
+
+    void add(long count, long totalHp, long aliveCount) {
+        this.count += count;
+        this.totalHp += totalHp;
+        this.aliveCount += aliveCount;
+    }
+
+    void addType(int typeId, long count) {
+        typeDistribution.merge(typeId, count, Long::sum);
+    }
+
+    void merge(TeamStatistics other) {
+        add(other.count, other.totalHp, other.aliveCount);
+        other.typeDistribution.forEach(this::addType);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || obj.getClass() != this.getClass()) {
+            return false;
+        }
+        return teamId == ((TeamStatistics) obj).teamId
+                && count == ((TeamStatistics) obj).count
+                && totalHp == ((TeamStatistics) obj).totalHp
+                && aliveCount == ((TeamStatistics) obj).aliveCount
+                && typeDistribution.equals(((TeamStatistics) obj).typeDistribution);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(teamId, count, totalHp, aliveCount, typeDistribution);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(this.getClass().getSimpleName());
+        sb.append(" {teamId=");
+        sb.append(teamId);
+        sb.append(", count=");
+        sb.append(count);
+        sb.append(", totalHp=");
+        sb.append(totalHp);
+        sb.append(", aliveCount=");
+        sb.append(aliveCount);
+        sb.append(", types=");
+        sb.append(typeDistribution);
+        sb.append("}");
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+
+/**
+ * Collects {@code TRAINER_STATS} deltas of {@link Pokemon} changes flushed within a transaction
+ * and applies them just before the transaction commits.
+ * Each touched trainer row is merged once per transaction, in trainer ID order.
+ * Row of a trainer left without Pokemons is deleted, same as it is never created by the rebuild.
+ */
+final class TrainerStatsListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String MERGE
+            = "MERGE INTO TRAINER_STATS s"
+            + " USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS INTEGER)))"
+            + " d (POKEMON_COUNT, TOTAL_HP, ALIVE_COUNT, TRAINER_ID) ON s.TRAINER_ID = d.TRAINER_ID"
+            + " WHEN MATCHED THEN UPDATE SET POKEMON_COUNT = s.POKEMON_COUNT + d.POKEMON_COUNT,"
+            + " TOTAL_HP = s.TOTAL_HP + d.TOTAL_HP, ALIVE_COUNT = s.ALIVE_COUNT + d.ALIVE_COUNT"
+            + " WHEN NOT MATCHED THEN INSERT (TRAINER_ID, POKEMON_COUNT, TOTAL_HP, ALIVE_COUNT)"
+            + " VALUES (d.TRAINER_ID, d.POKEMON_COUNT, d.TOTAL_HP, d.ALIVE_COUNT)";
+    private static final String DELETE
+            = "DELETE FROM TRAINER_STATS WHERE TRAINER_ID = ?";
+    private static final String DELETE_EMPTY
+            = "DELETE FROM TRAINER_STATS WHERE TRAINER_ID = ? AND POKEMON_COUNT = 0";
+
+    private final Map<EventSource, Deltas> pending = new ConcurrentHashMap<>();
+
+    TrainerStatsListener() {
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Pokemon pokemon) {
+            deltas(event.getSession())
+                    .add(pokemon.getTrainer(), pokemon.getHp(), pokemon.isAlive(), pokemon.isDeleted(), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Pokemon pokemon) {
+            Deltas deltas = deltas(event.getSession());
+            Object[] oldState = event.getOldState();
+            if (oldState == null) {
+                // Update of detached instance without snapshot, previous trainer is not known
+                deltas.recompute(pokemon.getTrainer());
+                return;
+            }
+            EntityPersister persister = event.getPersister();
+            deltas.add(value(persister, oldState, "trainer"),
+                       (Integer) value(persister, oldState, "hp"),
+                       (Boolean) value(persister, oldState, "alive"),
+                       (Boolean) value(persister, oldState, "deleted"),
+                       -1);
+            deltas.add(pokemon.getTrainer(), pokemon.getHp(), pokemon.isAlive(), pokemon.isDeleted(), 1);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Pokemon) {
+            // Last flushed state, associations may be already cleared by Trainer.removePokemon
+            EntityPersister persister = event.getPersister();
+            Object[] state = event.getDeletedState();
+            deltas(event.getSession()).add(value(persister, state, "trainer"),
+                                           (Integer) value(persister, state, "hp"),
+                                           (Boolean) value(persister, state, "alive"),
+                                           (Boolean) value(persister, state, "deleted"),
+                                           -1);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // Deltas of the current transaction of the session
+    private Deltas deltas(EventSource session) {
+        return pending.computeIfAbsent(session, key -> {
+            Deltas deltas = new Deltas();
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) completing -> {
+                pending.remove(key);
+                completing.doWork(deltas::apply);
+            });
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completed) -> {
+                pending.remove(key);
+            });
+            return deltas;
+        });
+    }
+
+    private static Object value(EntityPersister persister, Object[] state, String property) {
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) {
+                return state[i];
+            }
+        }
+        throw new IllegalStateException("Unknown property " + property + " of " + persister.getEntityName());
+    }
+
+    // Trainer ID without proxy initialization
+    private static Integer trainerId(Object trainer) {
+        if (trainer == null) {
+            return null;
+        }
+        if (trainer instanceof HibernateProxy proxy) {
+            return (Integer) proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        return ((Trainer) trainer).getId();
+    }
+
+    private static final class Deltas {
+
+        // Sorted to update trainer rows in the same order in all transactions
+        private final Map<Integer, long[]> deltas = new TreeMap<>();
+        private final Set<Integer> recompute = new TreeSet<>();
+
+        private void add(Object trainer, int hp, boolean alive, boolean deleted, int sign) {
+            Integer trainerId = trainerId(trainer);
+            if (trainerId == null || deleted) {
+                return;
+            }
+            long[] delta = deltas.computeIfAbsent(trainerId, id -> new long[3]);
+            delta[0] += sign;
+            delta[1] += (long) sign * hp;
+            delta[2] += alive ? sign : 0;
+        }
+
+        private void recompute(Trainer trainer) {
+            Integer trainerId = trainerId(trainer);
+            if (trainerId != null) {
+                recompute.add(trainerId);
+            }
+        }
+
+        private void apply(Connection connection) throws SQLException {
+            try (PreparedStatement merge = connection.prepareStatement(MERGE);
+                    PreparedStatement deleteEmpty = connection.prepareStatement(DELETE_EMPTY)) {
+                for (Map.Entry<Integer, long[]> entry : deltas.entrySet()) {
+                    long[] delta = entry.getValue();
+                    if (recompute.contains(entry.getKey()) || (delta[0] == 0 && delta[1] == 0 && delta[2] == 0)) {
+                        continue;
+                    }
+                    bind(merge, entry.getKey(), delta);
+                    merge(connection, merge);
+                    if (delta[0] < 0) {
+                        deleteEmpty.setInt(1, entry.getKey());
+                        deleteEmpty.executeUpdate();
+                    }
+                }
+            }
+            for (Integer trainerId : recompute) {
+                try (PreparedStatement delete = connection.prepareStatement(DELETE);
+                        PreparedStatement insert = connection.prepareStatement(Leaderboard.REBUILD_TRAINER)) {
+                    delete.setInt(1, trainerId);
+                    delete.executeUpdate();
+                    insert.setInt(1, trainerId);
+                    insert.executeUpdate();
+                }
+            }
+        }
+
+        // Row inserted by a concurrent transaction fails the statement once the transaction commits,
+        // statement executed again matches the committed row
+        private static void merge(Connection connection, PreparedStatement merge) throws SQLException {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                merge.executeUpdate();
+            } catch (SQLException e) {
+                if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    throw e;
+                }
+                connection.rollback(savepoint);
+                merge.executeUpdate();
+            }
+            connection.releaseSavepoint(savepoint);
+        }
+
+        private static void bind(PreparedStatement statement, int trainerId, long[] delta) throws SQLException {
+            statement.setLong(1, delta[0]);
+            statement.setLong(2, delta[1]);
+            statement.setLong(3, delta[2]);
+            statement.setInt(4, trainerId);
+        }
+
+    }
+
+}
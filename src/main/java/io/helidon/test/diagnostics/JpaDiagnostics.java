@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.diagnostics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Flight Recorder instrumentation of JPA operations.
+ * <p>
+ * Each operation executed through this class is recorded as {@link JpaOperationEvent} with the entity type,
+ * number of SQL statements, number of rows and duration, so database time can be attributed to the code
+ * which triggered it. Identical SQL statements executed repeatedly within single operation, e.g. loads of
+ * {@code Pokemon.types} one by one for each queried {@code Pokemon}, are recorded as {@link NPlusOneEvent}.
+ * Nested operations are part of the enclosing operation when looking for repeated statements.
+ * <p>
+ * Statements are observed by this class acting as Hibernate {@link StatementInspector}, pass {@link #properties()}
+ * when creating the {@link jakarta.persistence.EntityManagerFactory}. When none of the events is enabled
+ * in a running recording, operations are executed directly and statements are not tracked at all.
+ */
+public final class JpaDiagnostics implements StatementInspector {
+
+    private static final int DEFAULT_REPEAT_THRESHOLD = 3;
+
+    private final ThreadLocal<UnitOfWork> current = new ThreadLocal<>();
+    private final int repeatThreshold;
+
+    /**
+     * Creates an instance of JPA diagnostics.
+     * Statement executed 3 or more times within single operation is reported as N+1.
+     */
+    public JpaDiagnostics() {
+        this(DEFAULT_REPEAT_THRESHOLD);
+    }
+
+    /**
+     * Creates an instance of JPA diagnostics.
+     *
+     * @param repeatThreshold minimal number of executions of identical statement within single operation
+     *                        reported as N+1
+     * @throws IllegalArgumentException when repeat threshold is less than 2
+     */
+    public JpaDiagnostics(int repeatThreshold) {
+        if (repeatThreshold < 2) {
+            throw new IllegalArgumentException("Repeat threshold must be at least 2, got " + repeatThreshold);
+        }
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    /**
+     * {@link jakarta.persistence.EntityManagerFactory} properties registering this instance
+     * as Hibernate {@link StatementInspector}.
+     *
+     * @return {@link jakarta.persistence.EntityManagerFactory} properties
+     */
+    public Map<String, Object> properties() {
+        return Map.of("hibernate.session_factory.statement_inspector", this);
+    }
+
+    /**
+     * Find entity by its ID.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param entityClass entity class
+     * @param id entity ID
+     * @return the entity or {@code null} when entity does not exist
+     * @param <T> entity type
+     */
+    public <T> T find(EntityManager em, Class<T> entityClass, Object id) {
+        return observe("find", entityClass, () -> em.find(entityClass, id), entity -> entity == null ? 0 : 1);
+    }
+
+    /**
+     * Merge entity state.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param entity entity to merge
+     * @return the managed entity
+     * @param <T> entity type
+     */
+    public <T> T merge(EntityManager em, T entity) {
+        return observe("merge", entity.getClass(), () -> em.merge(entity), merged -> 1);
+    }
+
+    /**
+     * Flush persistence context.
+     * Entity type of the flush operation is not known and number of rows is always {@code 0}.
+     *
+     * @param em JPA {@link EntityManager}
+     */
+    public void flush(EntityManager em) {
+        observe("flush", null, () -> {
+            em.flush();
+            return null;
+        }, nothing -> 0);
+    }
+
+    /**
+     * Execute query.
+     *
+     * @param entityClass query result class
+     * @param query query to execute
+     * @return the query result
+     * @param <T> query result type
+     */
+    public <T> List<T> query(Class<T> entityClass, TypedQuery<T> query) {
+        return observe("query", entityClass, query::getResultList, List::size);
+    }
+
+    /**
+     * Execute custom operation.
+     *
+     * @param operation name of the operation
+     * @param entityType entity type of the operation, may be {@code null}
+     * @param work the operation
+     * @param rows number of rows of the operation result
+     * @return the operation result
+     * @param <T> operation result type
+     */
+    public <T> T observe(String operation, Class<?> entityType, Supplier<T> work, ToLongFunction<? super T> rows) {
+        JpaOperationEvent event = new JpaOperationEvent();
+        UnitOfWork parent = current.get();
+        if (!event.isEnabled() && parent == null && !new NPlusOneEvent().isEnabled()) {
+            return work.get();
+        }
+        UnitOfWork unitOfWork = new UnitOfWork(parent, operation, entityType);
+        current.set(unitOfWork);
+        long count = 0;
+        event.begin();
+        try {
+            T result = work.get();
+            count = rows.applyAsLong(result);
+            return result;
+        } finally {
+            event.end();
+            current.set(parent);
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.entityType = entityType;
+                event.statements = unitOfWork.statements;
+                event.rows = count;
+                event.commit();
+            }
+            if (parent == null) {
+                reportRepeated(unitOfWork);
+            }
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        UnitOfWork unitOfWork = current.get();
+        if (unitOfWork != null) {
+            unitOfWork.executed(sql);
+        }
+        return sql;
+    }
+
+    private void reportRepeated(UnitOfWork unitOfWork) {
+        for (Map.Entry<String, Integer> entry : unitOfWork.executions.entrySet()) {
+            if (entry.getValue() >= repeatThreshold) {
+                NPlusOneEvent event = new NPlusOneEvent();
+                if (event.shouldCommit()) {
+                    event.operation = unitOfWork.operation;
+                    event.entityType = unitOfWork.entityType;
+                    event.sql = entry.getKey();
+                    event.executions = entry.getValue();
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    // Single operation, nested operations share executions map of the outermost operation
+    private static final class UnitOfWork {
+
+        private final UnitOfWork parent;
+        private final String operation;
+        private final Class<?> entityType;
+        private final Map<String, Integer> executions;
+        private int statements;
+
+        private UnitOfWork(UnitOfWork parent, String operation, Class<?> entityType) {
+            this.parent = parent;
+            this.operation = operation;
+            this.entityType = entityType;
+            this.executions = parent == null ? new HashMap<>() : parent.executions;
+        }
+
+        private void executed(String sql) {
+            for (UnitOfWork unitOfWork = this; unitOfWork != null; unitOfWork = unitOfWork.parent) {
+                unitOfWork.statements++;
+            }
+            executions.merge(sql, 1, Integer::sum);
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event of single JPA operation.
+ * Event duration is the duration of the operation. Operations shorter than the event threshold
+ * ({@code 20 ms} by default) are not recorded, so the event serves as a slow query log.
+ */
+@Name(JpaOperationEvent.NAME)
+@Label("JPA Operation")
+@Description("JPA operation on the model entities")
+@Category({"Helidon", "JPA"})
+@StackTrace(false)
+@Threshold("20 ms")
+public class JpaOperationEvent extends jdk.jfr.Event {
+
+    /**
+     * Name of the event.
+     */
+    public static final String NAME = "io.helidon.test.JpaOperation";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Entity Type")
+    Class<?> entityType;
+
+    @Label("Statements")
+    @Description("Number of SQL statements executed by the operation")
+    int statements;
+
+    @Label("Rows")
+    @Description("Number of entities returned or merged by the operation")
+    long rows;
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of SQL statement repeated within single JPA operation.
+ * Stack trace of the event points to the code which started the operation.
+ */
+@Name(NPlusOneEvent.NAME)
+@Label("JPA N+1 Select")
+@Description("Identical SQL statement executed repeatedly within single JPA operation")
+@Category({"Helidon", "JPA"})
+public class NPlusOneEvent extends jdk.jfr.Event {
+
+    /**
+     * Name of the event.
+     */
+    public static final String NAME = "io.helidon.test.NPlusOne";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Entity Type")
+    Class<?> entityType;
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Executions")
+    @Description("Number of executions of the statement within the operation")
+    int executions;
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.Hibernate;
+
+/**
+ * Structured logging format of the model entities.
+ * <p>
+ * Entity is rendered as flat {@code key=value} pairs, associations as IDs of the associated entities.
+ * Like {@code toString()} of the entities, formatting never initializes lazy associations: uninitialized
+ * entity proxy is rendered as its type and ID only and uninitialized {@code types} collection is omitted.
+ * <pre>
+ * entity=Pokemon id=1 name=Pikachu hp=72 alive=true trainer=1 types=13
+ * </pre>
+ */
+public final class EntityLogFormatter {
+
+    private EntityLogFormatter() {
+        throw new UnsupportedOperationException("No instances of EntityLogFormatter are allowed");
+    }
+
+    /**
+     * Format entity as {@code key=value} pairs separated by space.
+     * Values containing space, quote, equal sign or control character are quoted, control characters are escaped.
+     *
+     * @param entity entity, entity proxy or {@code null}
+     * @return formatted entity
+     */
+    public static String format(Object entity) {
+        StringBuilder sb = EntityStrings.builder();
+        visit(entity, (key, value) -> {
+            if (!sb.isEmpty()) {
+                sb.append(' ');
+            }
+            sb.append(key);
+            sb.append('=');
+            appendValue(sb, value);
+        });
+        return EntityStrings.release(sb);
+    }
+
+    /**
+     * Entity fields for structured loggers which accept key-value pairs.
+     * Iteration order of the returned {@link Map} matches {@link #format(Object)}.
+     *
+     * @param entity entity, entity proxy or {@code null}
+     * @return entity fields
+     */
+    public static Map<String, Object> fields(Object entity) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        visit(entity, fields::put);
+        return fields;
+    }
+
+    private static void visit(Object entity, BiConsumer<String, Object> fields) {
+        if (entity == null) {
+            fields.accept("entity", null);
+            return;
+        }
+        if (!EntityStrings.isLoaded(entity)) {
+            fields.accept("entity", Hibernate.getClassLazy(entity).getSimpleName());
+            fields.accept("id", EntityStrings.id(entity));
+            return;
+        }
+        Object implementation = Hibernate.unproxy(entity);
+        fields.accept("entity", implementation.getClass().getSimpleName());
+        fields.accept("id", EntityStrings.id(implementation));
+        fields.accept("name", EntityStrings.name(implementation));
+        if (implementation instanceof Pokemon pokemon) {
+            fields.accept("hp", pokemon.getHp());
+            fields.accept("alive", pokemon.isAlive());
+            fields.accept("trainer", reference(pokemon.getTrainer()));
+            Collection<Type> types = pokemon.getTypes();
+            if (types == null || EntityStrings.isLoaded(types)) {
+                fields.accept("types", typeIds(types));
+            }
+        } else if (implementation instanceof Trainer trainer) {
+            fields.accept("team", reference(trainer.getTeam()));
+        } else if (implementation instanceof League league) {
+            fields.accept("region", reference(league.getRegion()));
+        }
+    }
+
+    private static Object reference(Object entity) {
+        return entity == null ? null : EntityStrings.id(entity);
+    }
+
+    // At most EntityStrings.MAX_TYPES IDs
+    private static List<Integer> typeIds(Collection<Type> types) {
+        if (types == null) {
+            return null;
+        }
+        List<Integer> ids = new ArrayList<>(Math.min(types.size(), EntityStrings.MAX_TYPES));
+        for (Type type : types) {
+            if (ids.size() == EntityStrings.MAX_TYPES) {
+                break;
+            }
+            if (type != null) {
+                ids.add(type.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value instanceof List<?> list) {
+            for (int i = 0; i < list.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(list.get(i));
+            }
+            return;
+        }
+        String text = String.valueOf(value);
+        boolean quote = text.isEmpty();
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ' ' || c == '"' || c == '=' || Character.isISOControl(c);
+        }
+        if (!quote) {
+            sb.append(text);
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '"', '\\' -> sb.append('\\').append(c);
+            case '\n' -> sb.append("\\n");
+            case '\r' -> sb.append("\\r");
+            case '\t' -> sb.append("\\t");
+            default -> {
+                // Control characters never reach the log line unescaped
+                if (Character.isISOControl(c)) {
+                    sb.append("\\u00")
+                            .append(Character.forDigit(c >> 4, 16))
+                            .append(Character.forDigit(c & 0xF, 16));
+                } else {
+                    sb.append(c);
+                }
+            }
+            }
+        }
+        sb.append('"');
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.model;
+
+import java.util.Collection;
+
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+
+/**
+ * Allocation-light rendering of the model entities.
+ * <p>
+ * Rendering never initializes lazy associations: uninitialized associations are rendered by their IDs only,
+ * initialized associations by their ID and name, without following their own associations. Rendered strings
+ * are built in a {@link StringBuilder} reused by the current thread.
+ */
+final class EntityStrings {
+
+    // Maximum number of rendered types of single Pokemon
+    static final int MAX_TYPES = 8;
+
+    private static final int INITIAL_CAPACITY = 128;
+    // Larger builders are not kept by the thread
+    private static final int MAX_RETAINED_CAPACITY = 1024;
+    private static final ThreadLocal<StringBuilder> BUILDER
+            = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private EntityStrings() {
+        throw new UnsupportedOperationException("No instances of EntityStrings are allowed");
+    }
+
+    /**
+     * Empty {@link StringBuilder} of the current thread.
+     * Must be released by {@link #release(StringBuilder)} before it is requested again.
+     *
+     * @return empty {@link StringBuilder}
+     */
+    static StringBuilder builder() {
+        StringBuilder sb = BUILDER.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    /**
+     * Build the {@link String} and release the {@link StringBuilder} of the current thread.
+     *
+     * @param sb {@link StringBuilder} returned by {@link #builder()}
+     * @return content of the {@link StringBuilder}
+     */
+    static String release(StringBuilder sb) {
+        String result = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            BUILDER.remove();
+        } else {
+            sb.setLength(0);
+        }
+        return result;
+    }
+
+    /**
+     * Whether entity or collection is loaded.
+     *
+     * @param value entity, entity proxy or collection
+     * @return value of {@code true} when the value can be read without database access
+     */
+    static boolean isLoaded(Object value) {
+        return Hibernate.isInitialized(value);
+    }
+
+    /**
+     * ID of the entity. Entity proxy is not initialized.
+     *
+     * @param entity entity or entity proxy
+     * @return ID of the entity
+     */
+    static Object id(Object entity) {
+        if (entity instanceof HibernateProxy proxy) {
+            LazyInitializer initializer = proxy.getHibernateLazyInitializer();
+            if (initializer.isUninitialized()) {
+                return initializer.getIdentifier();
+            }
+            return id(initializer.getImplementation());
+        }
+        if (entity instanceof Pokemon pokemon) {
+            return pokemon.getId();
+        } else if (entity instanceof Trainer trainer) {
+            return trainer.getId();
+        } else if (entity instanceof Team team) {
+            return team.getId();
+        } else if (entity instanceof Type type) {
+            return type.getId();
+        } else if (entity instanceof League league) {
+            return league.getId();
+        } else if (entity instanceof Region region) {
+            return region.getId();
+        }
+        throw new IllegalArgumentException("Unknown entity " + entity.getClass().getName());
+    }
+
+    /**
+     * Name of the loaded entity.
+     *
+     * @param entity entity or initialized entity proxy
+     * @return name of the entity
+     */
+    static String name(Object entity) {
+        Object implementation = Hibernate.unproxy(entity);
+        if (implementation instanceof Pokemon pokemon) {
+            return pokemon.getName();
+        } else if (implementation instanceof Trainer trainer) {
+            return trainer.getName();
+        } else if (implementation instanceof Team team) {
+            return team.getName();
+        } else if (implementation instanceof Type type) {
+            return type.getName();
+        } else if (implementation instanceof League league) {
+            return league.getName();
+        } else if (implementation instanceof Region region) {
+            return region.getName();
+        }
+        throw new IllegalArgumentException("Unknown entity " + implementation.getClass().getName());
+    }
+
+    /**
+     * Append reference to associated entity.
+     *
+     * @param sb target {@link StringBuilder}
+     * @param type declared type of the association
+     * @param entity associated entity, entity proxy or {@code null}
+     */
+    static void appendReference(StringBuilder sb, Class<?> type, Object entity) {
+        if (entity == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append(type.getSimpleName());
+        sb.append(" {id=");
+        sb.append(id(entity));
+        if (isLoaded(entity)) {
+            sb.append(", name=");
+            sb.append(name(entity));
+        }
+        sb.append('}');
+    }
+
+    /**
+     * Append names of at most {@link #MAX_TYPES} types.
+     *
+     * @param sb target {@link StringBuilder}
+     * @param types types collection
+     */
+    static void appendTypes(StringBuilder sb, Collection<Type> types) {
+        if (types == null) {
+            sb.append("null");
+            return;
+        }
+        if (!isLoaded(types)) {
+            sb.append("<not loaded>");
+            return;
+        }
+        sb.append('[');
+        int count = 0;
+        for (Type type : types) {
+            if (count == MAX_TYPES) {
+                sb.append(", ... (");
+                sb.append(types.size());
+                sb.append(" total)");
+                break;
+            }
+            if (count > 0) {
+                sb.append(", ");
+            }
+            sb.append(type == null ? null : type.getName());
+            count++;
+        }
+        sb.append(']');
+    }
+
+}
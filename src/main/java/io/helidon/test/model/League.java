@@ -86,16 +86,17 @@ public class League {
 
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
+        // Associations are not initialized, see EntityStrings
+        StringBuilder sb = EntityStrings.builder();
         sb.append(this.getClass().getSimpleName());
         sb.append(" {id=");
         sb.append(id);
         sb.append(", name=");
         sb.append(name);
         sb.append(", region=");
-        sb.append(region.toString());
+        EntityStrings.appendReference(sb, Region.class, region);
         sb.append("}");
-        return sb.toString();
+        return EntityStrings.release(sb);
     }
 
 }
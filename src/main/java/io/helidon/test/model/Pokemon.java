@@ -23,16 +23,44 @@ import java.util.Objects;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.NamedQuery;
+import jakarta.persistence.QueryHint;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.NamedNativeQuery;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
-@Table(name = "POKEMNON")
-@NamedQuery(name="Pokemon.deleteTemp", query="DELETE FROM Pokemon p WHERE p.id >= 100")
+@Table(name = "POKEMNON",
+       indexes = {
+               // DELETED makes the index covering, otherwise H2 prefers the foreign key index and sorts
+               @Index(name = "POKEMNON_TRAINER_ID_IDX", columnList = "TRAINER_ID, ID, DELETED"),
+               @Index(name = "POKEMNON_NAME_ID_IDX", columnList = "NAME, ID")
+       })
+// Soft deleted rows are invisible until purged by io.helidon.test.data.SoftDeleteCompactor
+@SQLRestriction("DELETED = FALSE")
+// Native to delete soft deleted rows too, POKEMNON_TYPE join rows are removed by ON DELETE CASCADE
+@NamedNativeQuery(name = "Pokemon.deleteTemp",
+                  query = "DELETE FROM POKEMNON WHERE ID >= 100",
+                  querySpaces = {"POKEMNON", "POKEMNON_TYPE"})
+@NamedQuery(name = "Pokemon.softDelete",
+            query = "UPDATE Pokemon p SET p.deleted = true WHERE p.id IN :ids")
+@NamedQuery(name = "Pokemon.findByName",
+            query = "SELECT DISTINCT p FROM Pokemon p"
+                    + " LEFT JOIN FETCH p.trainer t LEFT JOIN FETCH t.team LEFT JOIN FETCH p.types"
+                    + " WHERE p.name = :name ORDER BY p.id",
+            hints = @QueryHint(name = "org.hibernate.cacheable", value = "true"))
+@NamedQuery(name = "Pokemon.findByTrainer",
+            query = "SELECT DISTINCT p FROM Pokemon p"
+                    + " LEFT JOIN FETCH p.trainer t LEFT JOIN FETCH t.team LEFT JOIN FETCH p.types"
+                    + " WHERE t.id = :trainerId ORDER BY p.id",
+            hints = @QueryHint(name = "org.hibernate.cacheable", value = "true"))
 public class Pokemon {
 
     @Id
@@ -41,6 +69,7 @@ public class Pokemon {
     private String name;
     private int hp;
     private boolean alive;
+    private boolean deleted;
 
     @ManyToOne
     @JoinColumn(name = "TRAINER_ID")
@@ -56,6 +85,7 @@ public class Pokemon {
                        name = "TYPE_ID",
                        referencedColumnName = "ID"
                ))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     public Collection<Type> types;
 
     public Pokemon() {
@@ -117,6 +147,10 @@ public class Pokemon {
         this.alive = alive;
     }
 
+    public boolean isDeleted() {
+        return deleted;
+    }
+
     public Collection<Type> getTypes() {
         return types;
     }
@@ -133,6 +167,26 @@ public class Pokemon {
         this.trainer = trainer;
     }
 
+    /**
+     * Move this Pokemon to another trainer and keep {@link Trainer#getPokemons()}
+     * of both trainers consistent without initializing them.
+     *
+     * @param trainer new trainer, may be {@code null}
+     */
+    public void changeTrainer(Trainer trainer) {
+        if (this.trainer == trainer) {
+            return;
+        }
+        if (this.trainer != null) {
+            this.trainer.removePokemon(this);
+        }
+        if (trainer != null) {
+            trainer.addPokemon(this);
+        } else {
+            this.trainer = null;
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == null || obj.getClass() != this.getClass()) {
@@ -180,7 +234,8 @@ public class Pokemon {
 
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
+        // Associations are not initialized, see EntityStrings
+        StringBuilder sb = EntityStrings.builder();
         sb.append(this.getClass().getSimpleName());
         sb.append(" {id=");
         sb.append(id);
@@ -191,18 +246,10 @@ public class Pokemon {
         sb.append(", alive=");
         sb.append(alive);
         sb.append(", keeper=");
-        sb.append(trainer.toString());
-        sb.append(", types=[");
-        boolean first = true;
-        for (Type type : types) {
-            if (first) {
-                first = false;
-            } else {
-                sb.append(", ");
-            }
-            sb.append(type.toString());
-        }
-        sb.append("]}");
-        return sb.toString();
+        EntityStrings.appendReference(sb, Trainer.class, trainer);
+        sb.append(", types=");
+        EntityStrings.appendTypes(sb, types);
+        sb.append("}");
+        return EntityStrings.release(sb);
     }
 }
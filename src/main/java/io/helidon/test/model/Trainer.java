@@ -15,17 +15,26 @@
  */
 package io.helidon.test.model;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedQuery;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.QueryHint;
 import jakarta.persistence.Table;
+import org.hibernate.Hibernate;
 
 @Entity
-@Table(name = "TRAINER")
+@Table(name = "TRAINER",
+       indexes = @Index(name = "TRAINER_NAME_ID_IDX", columnList = "NAME, ID"))
+@NamedQuery(name = "Trainer.findByName",
+            query = "SELECT t FROM Trainer t LEFT JOIN FETCH t.team WHERE t.name = :name ORDER BY t.id",
+            hints = @QueryHint(name = "org.hibernate.cacheable", value = "true"))
 public class Trainer {
 
     @Id
@@ -81,6 +90,37 @@ public class Trainer {
         this.pokemons = pokemons;
     }
 
+    /**
+     * Add {@link Pokemon} to this trainer and set this trainer as its owner.
+     * Uninitialized {@code pokemons} collection of managed trainer is not loaded,
+     * the addition is queued until the collection is initialized.
+     *
+     * @param pokemon {@link Pokemon} to add
+     */
+    public void addPokemon(Pokemon pokemon) {
+        pokemon.trainer = this;
+        if (pokemons == null) {
+            pokemons = new ArrayList<>();
+        }
+        pokemons.add(pokemon);
+    }
+
+    /**
+     * Remove {@link Pokemon} from this trainer and clear its owner.
+     * Uninitialized {@code pokemons} collection is not loaded, it will not contain
+     * the {@link Pokemon} once the change is flushed.
+     *
+     * @param pokemon {@link Pokemon} to remove
+     */
+    public void removePokemon(Pokemon pokemon) {
+        if (pokemon.trainer == this) {
+            pokemon.trainer = null;
+        }
+        if (pokemons != null && Hibernate.isInitialized(pokemons)) {
+            pokemons.remove(pokemon);
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == null || obj.getClass() != this.getClass()) {
@@ -98,16 +138,17 @@ public class Trainer {
 
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
+        // Associations are not initialized, see EntityStrings
+        StringBuilder sb = EntityStrings.builder();
         sb.append(this.getClass().getSimpleName());
         sb.append(" {id=");
         sb.append(id);
         sb.append(", name=");
         sb.append(name);
         sb.append(", team=");
-        sb.append(team.toString());
+        EntityStrings.appendReference(sb, Team.class, team);
         sb.append("}");
-        return sb.toString();
+        return EntityStrings.release(sb);
     }
 
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.model;
+
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Materialized {@link Pokemon} statistics of single {@link Trainer}.
+ * Rows are maintained by {@code io.helidon.test.data.Leaderboard} only, soft deleted Pokemons are not counted.
+ */
+@Entity
+@Immutable
+@Table(name = "TRAINER_STATS")
+@NamedQuery(name = "TrainerStats.topByHp",
+            query = "SELECT s FROM TrainerStats s ORDER BY s.totalHp DESC, s.trainerId")
+@NamedQuery(name = "TrainerStats.byTeam",
+            query = "SELECT tm.id, SUM(s.count), SUM(s.totalHp), SUM(s.aliveCount)"
+                    + " FROM TrainerStats s, Trainer t JOIN t.team tm WHERE t.id = s.trainerId GROUP BY tm.id")
+public class TrainerStats {
+
+    @Id
+    @Column(name = "TRAINER_ID")
+    private int trainerId;
+
+    @Column(name = "POKEMON_COUNT")
+    private long count;
+    @Column(name = "TOTAL_HP")
+    private long totalHp;
+    @Column(name = "ALIVE_COUNT")
+    private long aliveCount;
+
+    public TrainerStats() {
+        this(-1, 0, 0, 0);
+    }
+
+    public TrainerStats(int trainerId, long count, long totalHp, long aliveCount) {
+        this.trainerId = trainerId;
+        this.count = count;
+        this.totalHp = totalHp;
+        this.aliveCount = aliveCount;
+    }
+
+    public int getTrainerId() {
+        return trainerId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalHp() {
+        return totalHp;
+    }
+
+    public long getAliveCount() {
+        return aliveCount;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || obj.getClass() != this.getClass()) {
+            return false;
+        }
+        TrainerStats other = (TrainerStats) obj;
+        return trainerId == other.trainerId
+                && count == other.count
+                && totalHp == other.totalHp
+                && aliveCount == other.aliveCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trainerId, count, totalHp, aliveCount);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = EntityStrings.builder();
+        sb.append(this.getClass().getSimpleName());
+        sb.append(" {trainerId=");
+        sb.append(trainerId);
+        sb.append(", count=");
+        sb.append(count);
+        sb.append(", totalHp=");
+        sb.append(totalHp);
+        sb.append(", aliveCount=");
+        sb.append(aliveCount);
+        sb.append("}");
+        return EntityStrings.release(sb);
+    }
+
+}
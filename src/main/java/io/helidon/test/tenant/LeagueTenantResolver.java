@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.tenant;
+
+import java.util.function.Supplier;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Resolves tenant identifier of the {@link io.helidon.test.model.League} bound to the current thread.
+ * Every {@link jakarta.persistence.EntityManager} created while the tenant is bound belongs to that tenant.
+ */
+public class LeagueTenantResolver implements CurrentTenantIdentifierResolver<String> {
+
+    private final ThreadLocal<String> current = new ThreadLocal<>();
+    private final String defaultTenant;
+
+    /**
+     * Creates an instance of tenant identifier resolver.
+     *
+     * @param defaultTenant tenant identifier used when no tenant is bound to the current thread
+     */
+    public LeagueTenantResolver(String defaultTenant) {
+        this.defaultTenant = defaultTenant;
+    }
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        String tenant = current.get();
+        return tenant != null ? tenant : defaultTenant;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+
+    /**
+     * Run task with the tenant bound to the current thread.
+     *
+     * @param tenantIdentifier tenant identifier
+     * @param task task to run
+     * @return value returned by the task
+     * @param <T> type of the value returned by the task
+     */
+    public <T> T call(String tenantIdentifier, Supplier<T> task) {
+        String previous = current.get();
+        current.set(tenantIdentifier);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Run task with the tenant bound to the current thread.
+     *
+     * @param tenantIdentifier tenant identifier
+     * @param task task to run
+     */
+    public void run(String tenantIdentifier, Runnable task) {
+        call(tenantIdentifier, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.tenant;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import io.helidon.test.model.League;
+
+import jakarta.persistence.Persistence;
+
+/**
+ * Provisioning of {@link League} tenant schemas.
+ */
+public final class LeagueTenants {
+
+    private static final Pattern SCHEMA_NAME = Pattern.compile("[A-Z][A-Z0-9_]*");
+
+    private LeagueTenants() {
+        throw new UnsupportedOperationException("No instances of LeagueTenants are allowed");
+    }
+
+    /**
+     * Tenant identifier (schema name) of the {@link League}.
+     *
+     * @param leagueId ID of the {@link League}
+     * @return tenant identifier
+     */
+    public static String tenantIdentifier(int leagueId) {
+        return "LEAGUE_" + leagueId;
+    }
+
+    /**
+     * Tenant identifier (schema name) of the {@link League}.
+     *
+     * @param league the {@link League}
+     * @return tenant identifier
+     */
+    public static String tenantIdentifier(League league) {
+        return tenantIdentifier(league.getId());
+    }
+
+    /**
+     * Generate DDL statements creating the tables of the persistence unit.
+     * Table names are not qualified, so the statements may be executed in any schema.
+     *
+     * @param persistenceUnit name of the persistence unit
+     * @param properties additional persistence unit properties
+     * @return DDL statements
+     */
+    public static List<String> ddl(String persistenceUnit, Map<String, ?> properties) {
+        StringWriter script = new StringWriter();
+        Map<String, Object> config = new HashMap<>(properties);
+        config.put("jakarta.persistence.schema-generation.database.action", "none");
+        config.put("jakarta.persistence.schema-generation.scripts.action", "create");
+        config.put("jakarta.persistence.schema-generation.scripts.create-target", script);
+        config.put("hibernate.format_sql", "false");
+        config.put("hibernate.hbm2ddl.delimiter", ";");
+        Persistence.generateSchema(persistenceUnit, config);
+        List<String> statements = new ArrayList<>();
+        for (String line : script.toString().split(";\\R")) {
+            String statement = line.strip();
+            if (!statement.isEmpty()) {
+                statements.add(statement.endsWith(";")
+                                       ? statement.substring(0, statement.length() - 1)
+                                       : statement);
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * Create tenant schema and its tables.
+     *
+     * @param dataSource {@link DataSource} of the database
+     * @param tenantIdentifier tenant identifier (schema name)
+     * @param ddl DDL statements creating the tables
+     * @throws SQLException when schema creation failed
+     * @throws IllegalArgumentException when tenant identifier is not a valid schema name
+     */
+    public static void createSchema(DataSource dataSource, String tenantIdentifier, List<String> ddl)
+            throws SQLException {
+        if (!SCHEMA_NAME.matcher(tenantIdentifier).matches()) {
+            throw new IllegalArgumentException("Invalid tenant identifier " + tenantIdentifier);
+        }
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            String previous = connection.getSchema();
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + tenantIdentifier);
+            connection.setSchema(tenantIdentifier);
+            try {
+                for (String sql : ddl) {
+                    statement.execute(sql);
+                }
+            } finally {
+                connection.setSchema(previous);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.tenant;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+
+/**
+ * Multi-tenant connection provider sharing single connection pool by all tenants.
+ * Tenant identifier is the name of the tenant database schema. Connection is switched
+ * to the tenant schema when borrowed and back to the default schema when released,
+ * so switching tenants costs single {@link Connection#setSchema(String)} call.
+ */
+public class SchemaConnectionProvider implements MultiTenantConnectionProvider<String> {
+
+    private final DataSource dataSource;
+    private final String defaultSchema;
+
+    /**
+     * Creates an instance of multi-tenant connection provider.
+     *
+     * @param dataSource pooled {@link DataSource} shared by all tenants
+     * @param defaultSchema schema set on the connections returned to the pool
+     */
+    public SchemaConnectionProvider(DataSource dataSource, String defaultSchema) {
+        this.dataSource = dataSource;
+        this.defaultSchema = defaultSchema;
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public Connection getConnection(String tenantIdentifier) throws SQLException {
+        Connection connection = getAnyConnection();
+        try {
+            connection.setSchema(tenantIdentifier);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    @Override
+    public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+        try {
+            connection.setSchema(defaultSchema);
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this) || unwrapType.isInstance(dataSource);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isInstance(this)) {
+            return unwrapType.cast(this);
+        }
+        if (unwrapType.isInstance(dataSource)) {
+            return unwrapType.cast(dataSource);
+        }
+        throw new IllegalArgumentException("Cannot unwrap " + getClass().getName() + " as " + unwrapType.getName());
+    }
+
+}
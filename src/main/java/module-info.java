@@ -18,8 +18,16 @@
  */
 open module io.helidon.test {
 
+    requires java.sql;
     requires jakarta.persistence;
+    requires jdk.jfr;
+    requires static org.hibernate.orm.core;
+    // Hibernate SessionFactory is javax.naming.Referenceable
+    requires static java.naming;
 
+    exports io.helidon.test.data;
+    exports io.helidon.test.diagnostics;
     exports io.helidon.test.model;
+    exports io.helidon.test.tenant;
 
 }
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+
+/**
+ * Runs contention scenarios: N threads run the same operation in rounds, all threads
+ * start each round together. Failures are classified, workers which do not finish in time
+ * are reported as deadlocked and throughput with latency percentiles is reported.
+ */
+public class ContentionHarness {
+
+    private static final System.Logger LOGGER = System.getLogger(ContentionHarness.class.getName());
+
+    static final String DEADLOCK = "deadlock";
+    static final String LOCK_TIMEOUT = "lock-timeout";
+    static final String OPTIMISTIC = "optimistic";
+    static final String CONSTRAINT = "constraint";
+    static final String OTHER = "other";
+
+    private ContentionHarness() {
+        throw new UnsupportedOperationException("No instances of ContentionHarness are allowed");
+    }
+
+    /**
+     * Single operation of the scenario.
+     */
+    @FunctionalInterface
+    interface Operation {
+
+        /**
+         * Run the operation.
+         *
+         * @param thread index of the thread
+         * @param round index of the round
+         * @throws Exception when operation failed
+         */
+        void run(int thread, int round) throws Exception;
+
+    }
+
+    /**
+     * Run the scenario.
+     *
+     * @param name scenario name
+     * @param threads number of threads
+     * @param rounds number of operations run by each thread
+     * @param timeout maximum scenario duration in seconds
+     * @param operation operation to run
+     * @return scenario result
+     */
+    static Result run(String name, int threads, int rounds, int timeout, Operation operation) {
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        long[][] latencies = new long[threads][rounds];
+        // Rounds finished by each thread, guards visibility of their latencies
+        AtomicIntegerArray completed = new AtomicIntegerArray(threads);
+        // Concurrent, workers which did not finish in time may still be running when the result is collected
+        Map<String, Long>[] failures = newFailures(threads);
+        // Set before workers still running after the timeout are interrupted
+        AtomicBoolean expired = new AtomicBoolean();
+        Thread[] workers = new Thread[threads];
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            workers[t] = new Thread(() -> {
+                for (int round = 0; round < rounds; round++) {
+                    try {
+                        barrier.await(timeout, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (BrokenBarrierException | TimeoutException e) {
+                        return;
+                    }
+                    long begin = System.nanoTime();
+                    try {
+                        operation.run(thread, round);
+                    } catch (Exception e) {
+                        if (expired.get()) {
+                            // Interrupted after the timeout, already reported as deadlock
+                            return;
+                        }
+                        String kind = classify(e);
+                        if (OTHER.equals(kind)) {
+                            LOGGER.log(System.Logger.Level.WARNING, "Unexpected failure in scenario " + name, e);
+                        }
+                        failures[thread].merge(kind, 1L, Long::sum);
+                    }
+                    latencies[thread][round] = System.nanoTime() - begin;
+                    completed.set(thread, round + 1);
+                }
+            }, name + "-" + t);
+            workers[t].start();
+        }
+        boolean deadlocked = await(workers, timeout, expired);
+        long elapsed = System.nanoTime() - start;
+        Map<String, Long> total = new TreeMap<>();
+        for (Map<String, Long> threadFailures : failures) {
+            threadFailures.forEach((kind, count) -> total.merge(kind, count, Long::sum));
+        }
+        if (deadlocked) {
+            total.merge(DEADLOCK, 1L, Long::sum);
+        }
+        // Rounds skipped after broken barrier or timeout have no latency
+        long[] all = IntStream.range(0, threads)
+                .mapToObj(thread -> Arrays.stream(latencies[thread], 0, completed.get(thread)))
+                .flatMapToLong(latency -> latency)
+                .sorted()
+                .toArray();
+        Result result = new Result(name, threads, all, elapsed, total);
+        LOGGER.log(System.Logger.Level.INFO, result.toString());
+        return result;
+    }
+
+    /**
+     * Classify failure of the operation.
+     *
+     * @param t operation failure
+     * @return failure kind
+     */
+    static String classify(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.contains("Deadlock detected")) {
+                return DEADLOCK;
+            }
+            if (cause instanceof LockTimeoutException || cause instanceof PessimisticLockException) {
+                return LOCK_TIMEOUT;
+            }
+            if (cause instanceof OptimisticLockException) {
+                return OPTIMISTIC;
+            }
+            // SQL state class 23: integrity constraint violation
+            if (cause instanceof SQLException sqlException
+                    && sqlException.getSQLState() != null
+                    && sqlException.getSQLState().startsWith("23")) {
+                return CONSTRAINT;
+            }
+        }
+        return OTHER;
+    }
+
+    // Returns true when workers did not finish in time, i.e. they are blocked by a deadlock
+    // which was not detected by the database
+    private static boolean await(Thread[] workers, int timeout, AtomicBoolean expired) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+        try {
+            for (Thread worker : workers) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining > 0) {
+                    worker.join(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean alive = Arrays.stream(workers).anyMatch(Thread::isAlive);
+        if (alive) {
+            expired.set(true);
+            Arrays.stream(workers).forEach(Thread::interrupt);
+        }
+        return alive;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long>[] newFailures(int threads) {
+        Map<String, Long>[] failures = new Map[threads];
+        for (int i = 0; i < threads; i++) {
+            failures[i] = new ConcurrentHashMap<>();
+        }
+        return failures;
+    }
+
+    /**
+     * Scenario result.
+     */
+    static final class Result {
+
+        private final String name;
+        private final int threads;
+        private final long[] latencies;
+        private final long elapsed;
+        private final Map<String, Long> failures;
+
+        private Result(String name, int threads, long[] latencies, long elapsed, Map<String, Long> failures) {
+            this.name = name;
+            this.threads = threads;
+            this.latencies = latencies;
+            this.elapsed = elapsed;
+            this.failures = failures;
+        }
+
+        // Operations which actually ran, failed included
+        long operations() {
+            return latencies.length;
+        }
+
+        long failures(String kind) {
+            return failures.getOrDefault(kind, 0L);
+        }
+
+        double throughput() {
+            return latencies.length * 1_000_000_000.0 / elapsed;
+        }
+
+        // Latency percentile in microseconds
+        long percentile(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return TimeUnit.NANOSECONDS.toMicros(latencies[Math.max(index, 0)]);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(this.getClass().getSimpleName());
+            sb.append(" {scenario=");
+            sb.append(name);
+            sb.append(", threads=");
+            sb.append(threads);
+            sb.append(", operations=");
+            sb.append(operations());
+            sb.append(", ops/s=");
+            sb.append(Math.round(throughput()));
+            sb.append(", p50=");
+            sb.append(percentile(50));
+            sb.append("us, p95=");
+            sb.append(percentile(95));
+            sb.append("us, p99=");
+            sb.append(percentile(99));
+            sb.append("us, max=");
+            sb.append(percentile(100));
+            sb.append("us, failures=");
+            sb.append(failures);
+            sb.append("}");
+            return sb.toString();
+        }
+
+    }
+
+}
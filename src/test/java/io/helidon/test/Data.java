@@ -15,9 +15,18 @@
  */
 package io.helidon.test;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import io.helidon.test.data.PokemonImporter;
 import io.helidon.test.model.League;
 import io.helidon.test.model.Pokemon;
 import io.helidon.test.model.Region;
@@ -26,6 +35,7 @@ import io.helidon.test.model.Trainer;
 import io.helidon.test.model.Type;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityTransaction;
 
 public class Data {
@@ -174,8 +184,17 @@ public class Data {
             for (int i = 1; i < TRAINERS.length; i++) {
                 em.persist(TRAINERS[i]);
             }
+            // Persist copies: persist replaces collections of the instance with
+            // persistence context wrappers, which would not be inserted again
+            // when shared data are initialized in another EntityManagerFactory
             for (int i = 1; i < POKEMONS.length; i++) {
-                em.persist(POKEMONS[i]);
+                Pokemon pokemon = POKEMONS[i];
+                em.persist(new Pokemon(pokemon.getId(),
+                                       pokemon.getTrainer(),
+                                       pokemon.getName(),
+                                       pokemon.getHp(),
+                                       pokemon.isAlive(),
+                                       new ArrayList<>(pokemon.getTypes())));
             }
             et.commit();
         } catch (Throwable t) {
@@ -184,4 +203,103 @@ public class Data {
         }
     }
 
+    /**
+     * Run task with a new {@link EntityManager} in a new transaction.
+     * Transaction is rolled back when the task fails.
+     *
+     * @param emf JPA {@link EntityManagerFactory}
+     * @param task task to run
+     */
+    public static void inTransaction(EntityManagerFactory emf, Consumer<EntityManager> task) {
+        callInTransaction(emf, em -> {
+            task.accept(em);
+            return null;
+        });
+    }
+
+    /**
+     * Run task with a new {@link EntityManager} in a new transaction.
+     * Transaction is rolled back when the task fails.
+     *
+     * @param emf JPA {@link EntityManagerFactory}
+     * @param task task to run
+     * @return value returned by the task
+     * @param <T> type of the value returned by the task
+     */
+    public static <T> T callInTransaction(EntityManagerFactory emf, Function<EntityManager, T> task) {
+        try (EntityManager em = emf.createEntityManager()) {
+            return callInTransaction(em, task);
+        }
+    }
+
+    /**
+     * Run task with provided {@link EntityManager} in a new transaction.
+     * Transaction is rolled back when the task fails.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param task task to run
+     */
+    public static void inTransaction(EntityManager em, Consumer<EntityManager> task) {
+        callInTransaction(em, e -> {
+            task.accept(e);
+            return null;
+        });
+    }
+
+    /**
+     * Run task with provided {@link EntityManager} in a new transaction.
+     * Transaction is rolled back when the task fails.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param task task to run
+     * @return value returned by the task
+     * @param <T> type of the value returned by the task
+     */
+    public static <T> T callInTransaction(EntityManager em, Function<EntityManager, T> task) {
+        EntityTransaction et = em.getTransaction();
+        et.begin();
+        try {
+            T result = task.apply(em);
+            et.commit();
+            return result;
+        } catch (Throwable t) {
+            if (et.isActive()) {
+                et.rollback();
+            }
+            throw t;
+        }
+    }
+
+    /**
+     * Persist a new trainer with large roster of generated Pokemons.
+     * Pokemons are imported from CSV file by {@link PokemonImporter}, their IDs follow {@code firstId}.
+     *
+     * @param emf JPA {@link EntityManagerFactory}
+     * @param dir directory of the CSV file
+     * @param trainer new trainer
+     * @param firstId ID preceding the first Pokemon ID
+     * @param size number of Pokemons
+     * @param types {@code |} separated type IDs of every Pokemon, may be empty
+     * @throws IOException when CSV file cannot be written
+     */
+    public static void importRoster(EntityManagerFactory emf,
+                                    Path dir,
+                                    Trainer trainer,
+                                    int firstId,
+                                    int size,
+                                    String types) throws IOException {
+        Path file = dir.resolve("roster-" + trainer.getId() + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 1; i <= size; i++) {
+                writer.write((firstId + i) + "," + trainer.getId() + ",Roster " + i + ",30,true," + types + "\n");
+            }
+        }
+        inTransaction(emf, em -> {
+            em.persist(trainer);
+            em.flush();
+            new PokemonImporter(1000, (imported, rejected, elapsed) -> { })
+                    .importFile(em, file);
+        });
+    }
+
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Measures heap retained by an object graph as a difference of used heap after garbage collection
+ * before and after the graph is created. Each measurement is repeated and the median is reported,
+ * the result is an estimate affected by other threads allocating meanwhile.
+ */
+public class FootprintProbe {
+
+    private static final System.Logger LOGGER = System.getLogger(FootprintProbe.class.getName());
+    private static final int REPEAT = 3;
+    private static final int GC_ROUNDS = 4;
+
+    private FootprintProbe() {
+        throw new UnsupportedOperationException("No instances of FootprintProbe are allowed");
+    }
+
+    /**
+     * Measure bytes retained per single object of the graph.
+     *
+     * @param name name of the measurement
+     * @param objects number of objects in the graph
+     * @param graph creates the graph, returned value must reference all retained objects
+     * @param release releases resources of the graph after the measurement
+     * @return retained bytes per object
+     * @param <T> type of the graph root
+     */
+    static <T> long bytesPerObject(String name, int objects, Supplier<T> graph, Consumer<T> release) {
+        long[] results = new long[REPEAT];
+        for (int i = 0; i < REPEAT; i++) {
+            long before = usedHeap();
+            T root = graph.get();
+            long after = usedHeap();
+            Reference.reachabilityFence(root);
+            release.accept(root);
+            results[i] = (after - before) / objects;
+        }
+        Arrays.sort(results);
+        long median = results[REPEAT / 2];
+        LOGGER.log(System.Logger.Level.INFO, name + ": " + median + " bytes per object " + Arrays.toString(results));
+        return median;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for garbage collection", e);
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts SQL statements prepared by Hibernate.
+ * Pass instance of this class as {@code hibernate.session_factory.statement_inspector}
+ * property when creating the {@link jakarta.persistence.EntityManagerFactory}.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private final AtomicLong count = new AtomicLong();
+
+    @Override
+    public String inspect(String sql) {
+        count.incrementAndGet();
+        return sql;
+    }
+
+    /**
+     * Number of statements since this counter was created.
+     *
+     * @return number of statements
+     */
+    public long count() {
+        return count.get();
+    }
+
+}
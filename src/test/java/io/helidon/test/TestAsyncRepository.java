@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.test.data.AsyncRepository;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestAsyncRepository {
+
+    private static EntityManagerFactory EMF = null;
+    private static AsyncRepository REPOSITORY = null;
+
+    public TestAsyncRepository() {
+    }
+
+    @Test
+    public void testFind() {
+        assertThat(REPOSITORY.find(Pokemon.class, 1).toCompletableFuture().join().orElseThrow().getName(),
+                   is("Pikachu"));
+        assertThat(REPOSITORY.find(Trainer.class, 4).toCompletableFuture().join().orElseThrow().getName(),
+                   is("Jasmine"));
+        assertThat(REPOSITORY.find(Team.class, 2).toCompletableFuture().join().orElseThrow().getName(),
+                   is("Johto"));
+        assertThat(REPOSITORY.find(Pokemon.class, 999).toCompletableFuture().join().isPresent(),
+                   is(false));
+    }
+
+    @Test
+    public void testQueryAndStream() {
+        List<Pokemon> pokemons = REPOSITORY.query("Pokemon.findByTrainer", Pokemon.class, Map.of("trainerId", 3))
+                .toCompletableFuture()
+                .join();
+        assertThat(pokemons.stream().map(Pokemon::getId).toList(), is(List.of(9, 10, 11)));
+        List<String> names = new ArrayList<>();
+        List<String> threads = new ArrayList<>();
+        long count = REPOSITORY.stream("Pokemon.findByTrainer",
+                                       Pokemon.class,
+                                       Map.of("trainerId", 3),
+                                       pokemon -> {
+                                           names.add(pokemon.getName());
+                                           threads.add(Thread.currentThread().getName());
+                                       })
+                .toCompletableFuture()
+                .join();
+        assertThat(count, is(3L));
+        assertThat(names, is(List.of("Fearow", "Ekans", "Arbok")));
+        threads.forEach(thread -> assertThat(thread, startsWith("async-repository-")));
+    }
+
+    @Test
+    public void testMerge() {
+        Pokemon pokemon = REPOSITORY.find(Pokemon.class, 7).toCompletableFuture().join().orElseThrow();
+        int hp = pokemon.getHp();
+        pokemon.setHp(hp + 10);
+        REPOSITORY.merge(pokemon).toCompletableFuture().join();
+        assertThat(REPOSITORY.find(Pokemon.class, 7).toCompletableFuture().join().orElseThrow().getHp(),
+                   is(hp + 10));
+        pokemon.setHp(hp);
+        REPOSITORY.merge(pokemon).toCompletableFuture().join();
+    }
+
+    @Test
+    public void testTransactionFailure() {
+        CompletableFuture<Object> failed = REPOSITORY.transaction(em -> {
+            em.find(Pokemon.class, 8).setHp(1);
+            throw new IllegalStateException("Failed work");
+        }).toCompletableFuture();
+        CompletionException e = assertThrows(CompletionException.class, failed::join);
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(REPOSITORY.find(Pokemon.class, 8).toCompletableFuture().join().orElseThrow().getHp(),
+                   is(81));
+    }
+
+    @Test
+    public void testOverloadRejectedWithoutBlocking() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try (AsyncRepository repository = new AsyncRepository(EMF, 2, 2)) {
+            List<CompletableFuture<Integer>> accepted = new ArrayList<>();
+            // Occupy both threads
+            for (int i = 0; i < 2; i++) {
+                accepted.add(repository.call(em -> {
+                    started.countDown();
+                    await(release);
+                    return em.find(Pokemon.class, 1).getId();
+                }).toCompletableFuture());
+            }
+            assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+            // Fill the queue
+            for (int i = 0; i < 2; i++) {
+                accepted.add(repository.call(em -> em.find(Pokemon.class, 2).getId()).toCompletableFuture());
+            }
+            assertThat(repository.queued(), is(2));
+            // Exhausted pool rejects immediately instead of blocking the caller
+            CompletableFuture<Integer> rejected = repository.call(em -> em.find(Pokemon.class, 3).getId())
+                    .toCompletableFuture();
+            assertThat(rejected.isCompletedExceptionally(), is(true));
+            CompletionException e = assertThrows(CompletionException.class, rejected::join);
+            assertThat(e.getCause(), instanceOf(RejectedExecutionException.class));
+            release.countDown();
+            assertThat(accepted.stream().map(CompletableFuture::join).toList(), is(List.of(1, 1, 2, 2)));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory("test-pu");
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+        REPOSITORY = new AsyncRepository(EMF, 4, 100);
+    }
+
+    @AfterAll
+    public static void after() {
+        if (REPOSITORY != null) {
+            REPOSITORY.close();
+        }
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
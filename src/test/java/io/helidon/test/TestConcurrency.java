@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.test.Data.TRAINERS;
+import static io.helidon.test.Data.TYPES;
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class TestConcurrency {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 25;
+    private static final int TIMEOUT = 120;
+    // Overlapping Pokemon IDs, all owned by the same trainer
+    private static final int[] HOT_IDS = {1, 2, 3, 4};
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestConcurrency() {
+    }
+
+    @Test
+    public void testDetachedMergeLostUpdates() {
+        long initial = totalHp();
+        AtomicLongArray committed = new AtomicLongArray(HOT_IDS.length);
+        // All threads read before any of them merges, so each pair of threads sharing an ID loses an update
+        CyclicBarrier read = new CyclicBarrier(THREADS);
+        ContentionHarness.Result result = ContentionHarness.run(
+                "detached-merge",
+                THREADS,
+                ROUNDS,
+                TIMEOUT,
+                (thread, round) -> {
+                    int index = (thread + round) % HOT_IDS.length;
+                    Pokemon pokemon;
+                    try (EntityManager em = EMF.createEntityManager()) {
+                        pokemon = em.find(Pokemon.class, HOT_IDS[index]);
+                    }
+                    read.await(TIMEOUT, TimeUnit.SECONDS);
+                    pokemon.setHp(pokemon.getHp() + 1);
+                    inTransaction(EMF, em -> em.merge(pokemon));
+                    committed.incrementAndGet(index);
+                });
+        // Read-modify-write of detached state has no protection
+        assertThat(result.operations(), is((long) THREADS * ROUNDS));
+        assertThat(lostUpdates(initial, committed), is((long) (THREADS - HOT_IDS.length) * ROUNDS));
+        assertThat(result.failures(ContentionHarness.OTHER), is(0L));
+    }
+
+    @Test
+    public void testPessimisticLockNoLostUpdates() {
+        long initial = totalHp();
+        AtomicLongArray committed = new AtomicLongArray(HOT_IDS.length);
+        ContentionHarness.Result result = ContentionHarness.run(
+                "pessimistic-write",
+                THREADS,
+                ROUNDS,
+                TIMEOUT,
+                (thread, round) -> {
+                    int index = (thread + round) % HOT_IDS.length;
+                    inTransaction(EMF, em -> {
+                        Pokemon pokemon = em.find(Pokemon.class, HOT_IDS[index], LockModeType.PESSIMISTIC_WRITE);
+                        pokemon.setHp(pokemon.getHp() + 1);
+                    });
+                    committed.incrementAndGet(index);
+                });
+        assertThat(lostUpdates(initial, committed), is(0L));
+        assertThat(result.failures(ContentionHarness.DEADLOCK), is(0L));
+        assertThat(result.failures(ContentionHarness.OTHER), is(0L));
+    }
+
+    @Test
+    public void testMixedMergeFindBulkDelete() {
+        ContentionHarness.Result result = ContentionHarness.run(
+                "mixed-merge-find-delete",
+                THREADS,
+                ROUNDS,
+                TIMEOUT,
+                (thread, round) -> {
+                    switch ((thread + round) % 4) {
+                    case 0 -> upsertTemp(100 + thread);
+                    case 1 -> {
+                        try (EntityManager em = EMF.createEntityManager()) {
+                            em.find(Pokemon.class, 100 + (thread + 1) % THREADS);
+                            em.find(Trainer.class, 1).getPokemons().size();
+                        }
+                    }
+                    case 2 -> inTransaction(EMF, em -> em.createNamedQuery("Pokemon.deleteTemp").executeUpdate());
+                    default -> {
+                        Trainer trainer;
+                        try (EntityManager em = EMF.createEntityManager()) {
+                            trainer = em.find(Trainer.class, 1);
+                        }
+                        trainer.setName("Ash " + thread);
+                        inTransaction(EMF, em -> em.merge(trainer));
+                    }
+                    }
+                });
+        // Bulk delete racing with inserts of join rows may fail on foreign keys, which is reported
+        assertThat(result.operations(), is((long) THREADS * ROUNDS));
+        assertThat(result.failures(ContentionHarness.OTHER), is(0L));
+        inTransaction(EMF, em -> em.find(Trainer.class, 1).setName("Ash"));
+    }
+
+    @Test
+    public void testHarnessCountsCompletedOperations() {
+        // Second thread blocks the first round beyond the timeout, remaining rounds are skipped
+        ContentionHarness.Result result = ContentionHarness.run(
+                "harness-timeout",
+                2,
+                3,
+                1,
+                (thread, round) -> {
+                    if (thread == 1) {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                    }
+                });
+        assertThat(result.failures(ContentionHarness.DEADLOCK), is(1L));
+        // Interrupt of the blocked thread is part of the deadlock
+        assertThat(result.failures(ContentionHarness.OTHER), is(0L));
+        assertThat(result.operations(), lessThan(6L));
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory("test-pu");
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    // Each thread owns single temporary Pokemon ID, bulk delete removes all of them
+    private static void upsertTemp(int id) {
+        inTransaction(EMF, em -> {
+            Pokemon pokemon = em.find(Pokemon.class, id);
+            if (pokemon == null) {
+                em.persist(new Pokemon(id, em.find(Trainer.class, 1), "Temp " + id, 10, true,
+                                       new ArrayList<>(List.of(TYPES[1]))));
+            } else {
+                pokemon.setHp(pokemon.getHp() + 1);
+            }
+        });
+    }
+
+    private static long totalHp() {
+        long total = 0;
+        try (EntityManager em = EMF.createEntityManager()) {
+            for (int id : HOT_IDS) {
+                total += em.find(Pokemon.class, id).getHp();
+            }
+        }
+        return total;
+    }
+
+    // Committed increments which are missing in the database
+    private static long lostUpdates(long initial, AtomicLongArray committed) {
+        long expected = 0;
+        for (int i = 0; i < committed.length(); i++) {
+            expected += committed.get(i);
+        }
+        return expected - (totalHp() - initial);
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.test.model.EntityLogFormatter;
+import io.helidon.test.model.League;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.test.Data.TYPES;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+public class TestEntityToString {
+
+    private static final StatementCounter COUNTER = new StatementCounter();
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestEntityToString() {
+    }
+
+    @Test
+    public void testNullAssociations() {
+        assertThat(new Pokemon(1, null, "Pikachu", 72, true, null).toString(),
+                   is("Pokemon {id=1, name=Pikachu, hp=72, alive=true, keeper=null, types=null}"));
+        assertThat(new Trainer(1, "Ash", null).toString(),
+                   is("Trainer {id=1, name=Ash, team=null}"));
+        assertThat(new League(1, "Indigo League", null).toString(),
+                   is("League {id=1, name=Indigo League, region=null}"));
+    }
+
+    @Test
+    public void testLoadedAssociations() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            Pokemon pokemon = em.find(Pokemon.class, 5);
+            assertThat(pokemon.toString(),
+                       is("Pokemon {id=5, name=Charizard, hp=145, alive=true,"
+                                  + " keeper=Trainer {id=2, name=Brock}, types=[Fire, Flying]}"));
+            assertThat(em.find(League.class, 9).toString(),
+                       is("League {id=9, name=Hoenn League, region=Region {id=10, name=Hoenn}}"));
+        }
+    }
+
+    @Test
+    public void testUninitializedAssociations() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            Trainer trainer = em.getReference(Trainer.class, 3);
+            Pokemon pokemon = new Pokemon(999, trainer, "Psyduck", 50, true, List.of(TYPES[11]));
+            long statements = COUNTER.count();
+            assertThat(pokemon.toString(), containsString("keeper=Trainer {id=3}"));
+            assertThat(EntityLogFormatter.format(trainer), is("entity=Trainer id=3"));
+            assertThat(EntityLogFormatter.format(pokemon),
+                       is("entity=Pokemon id=999 name=Psyduck hp=50 alive=true trainer=3 types=11"));
+            assertThat(COUNTER.count(), is(statements));
+            assertThat(Hibernate.isInitialized(trainer), is(false));
+        }
+    }
+
+    @Test
+    public void testBoundedTypes() {
+        List<Type> types = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            types.add(TYPES[i]);
+        }
+        Pokemon pokemon = new Pokemon(1, null, "Arceus", 120, true, types);
+        assertThat(pokemon.toString(), containsString(", Ghost, ... (12 total)]}"));
+        assertThat(EntityLogFormatter.format(pokemon), containsString(" types=1,2,3,4,5,6,7,8"));
+    }
+
+    @Test
+    public void testReusedBuilder() {
+        String name = "x".repeat(4096);
+        assertThat(new Trainer(1, name, null).toString().length(), is(name.length() + 32));
+        assertThat(new Trainer(2, "Brock", null).toString(), is("Trainer {id=2, name=Brock, team=null}"));
+    }
+
+    @Test
+    public void testStructuredFields() {
+        Trainer trainer = new Trainer(4, "Mr. \"Jasmine\"", Data.TEAMS[2]);
+        assertThat(EntityLogFormatter.format(trainer),
+                   is("entity=Trainer id=4 name=\"Mr. \\\"Jasmine\\\"\" team=2"));
+        Map<String, Object> fields = EntityLogFormatter.fields(trainer);
+        assertThat(fields.get("team"), is(2));
+        assertThat(List.copyOf(fields.keySet()), is(List.of("entity", "id", "name", "team")));
+        assertThat(EntityLogFormatter.format(null), is("entity=null"));
+        // Control characters cannot forge another log line
+        assertThat(EntityLogFormatter.format(new Trainer(5, "Falkner\nentity=Trainer id=1\r\t\u0007", null)),
+                   is("entity=Trainer id=5 name=\"Falkner\\nentity=Trainer id=1\\r\\t\\u0007\" team=null"));
+        assertThat(EntityLogFormatter.format(new Trainer(6, "Whitney\u0085", null)),
+                   is("entity=Trainer id=6 name=\"Whitney\\u0085\" team=null"));
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory(
+                "test-pu",
+                Map.of("hibernate.session_factory.statement_inspector", COUNTER));
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import io.helidon.test.diagnostics.JpaDiagnostics;
+import io.helidon.test.diagnostics.JpaOperationEvent;
+import io.helidon.test.diagnostics.NPlusOneEvent;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class TestJpaDiagnostics {
+
+    private static final JpaDiagnostics DIAGNOSTICS = new JpaDiagnostics();
+
+    private static EntityManagerFactory EMF = null;
+
+    @TempDir
+    private Path dir;
+
+    public TestJpaDiagnostics() {
+    }
+
+    @Test
+    public void testFind() throws IOException {
+        List<RecordedEvent> events = record(em -> {
+            assertThat(DIAGNOSTICS.find(em, Pokemon.class, 1), notNullValue());
+        });
+        List<RecordedEvent> operations = events(events, JpaOperationEvent.NAME);
+        assertThat(operations, hasSize(1));
+        RecordedEvent operation = operations.get(0);
+        assertThat(operation.getString("operation"), is("find"));
+        assertThat(operation.getClass("entityType").getName(), is(Pokemon.class.getName()));
+        assertThat(operation.getInt("statements"), greaterThanOrEqualTo(1));
+        assertThat(operation.getLong("rows"), is(1L));
+        assertThat(events(events, NPlusOneEvent.NAME), empty());
+    }
+
+    @Test
+    public void testNPlusOne() throws IOException {
+        List<RecordedEvent> events = record(em -> {
+            List<Pokemon> pokemons = DIAGNOSTICS.query(
+                    Pokemon.class,
+                    em.createQuery("SELECT p FROM Pokemon p WHERE p.trainer.id = :id", Pokemon.class)
+                            .setParameter("id", 1));
+            assertThat(pokemons, hasSize(4));
+        });
+        List<RecordedEvent> operations = events(events, JpaOperationEvent.NAME);
+        assertThat(operations, hasSize(1));
+        assertThat(operations.get(0).getLong("rows"), is(4L));
+        // Types of each Pokemon are loaded by separate statement
+        List<RecordedEvent> repeated = events(events, NPlusOneEvent.NAME);
+        assertThat(repeated, hasSize(1));
+        RecordedEvent nPlusOne = repeated.get(0);
+        assertThat(nPlusOne.getString("operation"), is("query"));
+        assertThat(nPlusOne.getString("sql").toUpperCase(), containsString("POKEMNON_TYPE"));
+        assertThat(nPlusOne.getInt("executions"), is(4));
+        assertThat(nPlusOne.getStackTrace(), notNullValue());
+    }
+
+    @Test
+    public void testNestedOperations() throws IOException {
+        List<RecordedEvent> events = record(em -> DIAGNOSTICS.observe("report", Pokemon.class, () -> {
+            for (int id = 5; id <= 8; id++) {
+                DIAGNOSTICS.find(em, Pokemon.class, id);
+            }
+            return null;
+        }, nothing -> 4));
+        List<RecordedEvent> operations = events(events, JpaOperationEvent.NAME);
+        assertThat(operations, hasSize(5));
+        // Nested finds are reported as N+1 of the enclosing operation
+        List<RecordedEvent> repeated = events(events, NPlusOneEvent.NAME);
+        assertThat(repeated.isEmpty(), is(false));
+        assertThat(repeated.get(0).getString("operation"), is("report"));
+        int nested = operations.stream()
+                .filter(event -> event.getString("operation").equals("find"))
+                .mapToInt(event -> event.getInt("statements"))
+                .sum();
+        RecordedEvent report = operations.stream()
+                .filter(event -> event.getString("operation").equals("report"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(report.getInt("statements"), is(nested));
+    }
+
+    @Test
+    public void testNotRecording() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(DIAGNOSTICS.find(em, Pokemon.class, 2).getName(), is("Raichu"));
+        }
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory("test-pu", DIAGNOSTICS.properties());
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    private List<RecordedEvent> record(Consumer<EntityManager> task) throws IOException {
+        Path file = dir.resolve("diagnostics.jfr");
+        try (Recording recording = new Recording();
+                EntityManager em = EMF.createEntityManager()) {
+            recording.enable(JpaOperationEvent.NAME).withoutThreshold();
+            recording.enable(NPlusOneEvent.NAME).withStackTrace();
+            recording.start();
+            task.accept(em);
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.helidon.test.data.KeysetPagination;
+import io.helidon.test.data.Page;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.helidon.test.Data.TEAMS;
+import static io.helidon.test.Data.TRAINERS;
+import static io.helidon.test.Data.TYPES;
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestKeysetPagination {
+
+    private static final String[] NAMES = {"Abra", "Kadabra", "Alakazam", "Zubat"};
+    // Trainer with large roster
+    private static final int GARY = 7;
+    private static final int ROSTER_SIZE = 500;
+    private static final int FIRST_ID = 2000;
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+    private static final StatementRecorder RECORDER = new StatementRecorder();
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestKeysetPagination() {
+    }
+
+    @Test
+    public void testPokemonsOfTrainer() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            List<Integer> expected = em.createQuery(
+                    "SELECT p.id FROM Pokemon p WHERE p.trainer.id = 2 ORDER BY p.id", Integer.class)
+                    .getResultList();
+            List<Integer> actual = new ArrayList<>();
+            String token = null;
+            do {
+                Page<Pokemon> page = KeysetPagination.pokemonsOfTrainer(em, 2, token, 7);
+                assertThat(page.getItems().size(), lessThanOrEqualTo(7));
+                for (Pokemon pokemon : page.getItems()) {
+                    assertThat(pokemon.getTrainer().getId(), is(2));
+                    actual.add(pokemon.getId());
+                }
+                token = page.getNextToken().orElse(null);
+            } while (token != null);
+            assertThat(actual, is(expected));
+        }
+    }
+
+    @Test
+    public void testPokemonsByName() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            List<Integer> expected = em.createQuery(
+                    "SELECT p.id FROM Pokemon p ORDER BY p.name, p.id", Integer.class)
+                    .getResultList();
+            List<Integer> actual = new ArrayList<>();
+            Set<String> tokens = new HashSet<>();
+            String token = null;
+            do {
+                Page<Pokemon> page = KeysetPagination.pokemonsByName(em, token, 5);
+                page.getItems().forEach(pokemon -> actual.add(pokemon.getId()));
+                token = page.getNextToken().orElse(null);
+                if (token != null) {
+                    assertThat(tokens.add(token), is(true));
+                }
+            } while (token != null);
+            assertThat(actual, is(expected));
+        }
+    }
+
+    @Test
+    public void testTrainersByName() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            Page<Trainer> first = KeysetPagination.trainersByName(em, null, 4);
+            Page<Trainer> second = KeysetPagination.trainersByName(em, first.getNextToken().orElseThrow(), 4);
+            List<String> names = new ArrayList<>();
+            first.getItems().forEach(trainer -> names.add(trainer.getName()));
+            second.getItems().forEach(trainer -> names.add(trainer.getName()));
+            assertThat(names, is(List.of("Ash", "Brock", "Falkner", "Gary", "Jasmine", "Misty", "Whitney")));
+            assertThat(second.getNextToken().isPresent(), is(false));
+        }
+    }
+
+    @Test
+    public void testInvalidToken() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            String token = KeysetPagination.pokemonsOfTrainer(em, 2, null, 1)
+                    .getNextToken()
+                    .orElseThrow();
+            assertThrows(IllegalArgumentException.class,
+                         () -> KeysetPagination.pokemonsByName(em, token, 1));
+            assertThrows(IllegalArgumentException.class,
+                         () -> KeysetPagination.pokemonsOfTrainer(em, 3, token, 1));
+            assertThrows(IllegalArgumentException.class,
+                         () -> KeysetPagination.pokemonsOfTrainer(em, 2, "not a token", 1));
+            assertThrows(IllegalArgumentException.class,
+                         () -> KeysetPagination.pokemonsOfTrainer(em, 2, null, 0));
+        }
+    }
+
+    // Rows read by the key query must not depend on the page depth
+    @Test
+    public void testDeepPageScan() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            String token = KeysetPagination.pokemonsOfTrainer(em, GARY, null, 400)
+                    .getNextToken()
+                    .orElseThrow();
+            RECORDER.statements.clear();
+            KeysetPagination.pokemonsOfTrainer(em, GARY, null, 10);
+            assertThat(scanCount(em, RECORDER.statements.get(0), GARY, 11), lessThan(20L));
+            RECORDER.statements.clear();
+            KeysetPagination.pokemonsOfTrainer(em, GARY, token, 10);
+            assertThat(scanCount(em, RECORDER.statements.get(0), GARY, FIRST_ID + 400, 11), lessThan(20L));
+
+            Page<Pokemon> deep = KeysetPagination.pokemonsByName(em, null, 400);
+            Pokemon last = deep.getItems().get(399);
+            RECORDER.statements.clear();
+            KeysetPagination.pokemonsByName(em, deep.getNextToken().orElseThrow(), 10);
+            assertThat(scanCount(em, RECORDER.statements.get(0), last.getName(), last.getId(), 11), lessThan(20L));
+        }
+    }
+
+    @BeforeAll
+    public static void before(@TempDir Path dir) throws IOException {
+        EMF = Persistence.createEntityManagerFactory(
+                "test-pu",
+                Map.of("hibernate.session_factory.statement_inspector", RECORDER));
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+        inTransaction(EMF, em -> {
+            // Additional Pokemons with duplicate names to cross several pages
+            for (int i = 0; i < 40; i++) {
+                em.persist(new Pokemon(1000 + i,
+                                       TRAINERS[2],
+                                       NAMES[i % NAMES.length],
+                                       50 + i,
+                                       true,
+                                       List.of(TYPES[14])));
+            }
+        });
+        Data.importRoster(EMF, dir, new Trainer(GARY, "Gary", TEAMS[1]), FIRST_ID, ROSTER_SIZE, "");
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    // Total number of rows read by H2 to execute the statement
+    private static long scanCount(EntityManager em, String sql, Object... parameters) {
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN ANALYZE " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    Matcher matcher = SCAN_COUNT.matcher(rs.getString(1));
+                    long count = 0;
+                    while (matcher.find()) {
+                        count += Long.parseLong(matcher.group(1));
+                    }
+                    return count;
+                }
+            }
+        });
+    }
+
+    // Records SQL statements prepared by Hibernate
+    private static final class StatementRecorder implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+    }
+
+}
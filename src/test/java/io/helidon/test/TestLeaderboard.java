@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.test.data.Leaderboard;
+import io.helidon.test.data.StatisticsAggregator;
+import io.helidon.test.data.TeamStatistics;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.TrainerStats;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.test.Data.TYPES;
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class TestLeaderboard {
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestLeaderboard() {
+    }
+
+    @Test
+    public void testPersist() {
+        TrainerStats before = stats(6);
+        inTransaction(EMF, em -> {
+            Trainer trainer = em.find(Trainer.class, 6);
+            Pokemon pokemon = new Pokemon(300, null, "Suicune", 50, false, new ArrayList<>(List.of(TYPES[11])));
+            trainer.addPokemon(pokemon);
+            em.persist(pokemon);
+        });
+        assertThat(stats(6), is(new TrainerStats(6,
+                                                 before.getCount() + 1,
+                                                 before.getTotalHp() + 50,
+                                                 before.getAliveCount())));
+    }
+
+    @Test
+    public void testMerge() {
+        TrainerStats from = stats(4);
+        TrainerStats to = stats(5);
+        Pokemon pokemon;
+        Trainer trainer;
+        try (EntityManager em = EMF.createEntityManager()) {
+            pokemon = em.find(Pokemon.class, 12);
+            trainer = em.find(Trainer.class, 5);
+        }
+        int hp = pokemon.getHp();
+        pokemon.setHp(hp + 10);
+        pokemon.setTrainer(trainer);
+        inTransaction(EMF, em -> em.merge(pokemon));
+        assertThat(stats(4), is(new TrainerStats(4,
+                                                 from.getCount() - 1,
+                                                 from.getTotalHp() - hp,
+                                                 from.getAliveCount() - 1)));
+        assertThat(stats(5), is(new TrainerStats(5,
+                                                 to.getCount() + 1,
+                                                 to.getTotalHp() + hp + 10,
+                                                 to.getAliveCount() + 1)));
+    }
+
+    @Test
+    public void testRemove() {
+        TrainerStats before = stats(3);
+        inTransaction(EMF, em -> {
+            Pokemon pokemon = em.find(Pokemon.class, 9);
+            pokemon.getTrainer().removePokemon(pokemon);
+            em.remove(pokemon);
+        });
+        assertThat(stats(3), is(new TrainerStats(3,
+                                                 before.getCount() - 1,
+                                                 before.getTotalHp() - 123,
+                                                 before.getAliveCount() - 1)));
+    }
+
+    @Test
+    public void testRollback() {
+        TrainerStats before = stats(1);
+        try (EntityManager em = EMF.createEntityManager()) {
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            em.find(Pokemon.class, 1).setHp(1000);
+            em.flush();
+            et.rollback();
+        }
+        assertThat(stats(1), is(before));
+    }
+
+    @Test
+    public void testConcurrentFirstChanges() throws Exception {
+        int trainers = 20;
+        inTransaction(EMF, em -> {
+            for (int i = 0; i < trainers; i++) {
+                em.persist(new Trainer(100 + i, "Rival " + i, Data.TEAMS[2]));
+            }
+        });
+        // Both transactions create statistics row of the same trainer at once
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < trainers; i++) {
+                int trainerId = 100 + i;
+                List<Future<?>> commits = new ArrayList<>();
+                for (int thread = 0; thread < 2; thread++) {
+                    int pokemonId = 400 + 2 * i + thread;
+                    commits.add(executor.submit(() -> {
+                        inTransaction(EMF, em -> {
+                            em.persist(new Pokemon(pokemonId, em.find(Trainer.class, trainerId), "Eevee", 55, true,
+                                                   new ArrayList<>()));
+                            em.flush();
+                            await(barrier);
+                        });
+                        return null;
+                    }));
+                }
+                for (Future<?> commit : commits) {
+                    commit.get(30, TimeUnit.SECONDS);
+                }
+                assertThat(stats(trainerId), is(new TrainerStats(trainerId, 2, 110, 2)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTeams() {
+        Map<Integer, TeamStatistics> expected = new StatisticsAggregator(EMF).aggregate();
+        try (EntityManager em = EMF.createEntityManager()) {
+            Map<Integer, TeamStatistics> teams = Leaderboard.teams(em);
+            assertThat(teams.keySet(), is(expected.keySet()));
+            for (TeamStatistics team : teams.values()) {
+                TeamStatistics aggregated = expected.get(team.getTeamId());
+                assertThat(team.getCount(), is(aggregated.getCount()));
+                assertThat(team.getTotalHp(), is(aggregated.getTotalHp()));
+                assertThat(team.getAliveCount(), is(aggregated.getAliveCount()));
+            }
+        }
+    }
+
+    @Test
+    public void testTrainerWithoutPokemons() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(Leaderboard.trainer(em, 9).isPresent(), is(false));
+        }
+        inTransaction(EMF, em -> {
+            Trainer trainer = new Trainer(10, "Sabrina", Data.TEAMS[2]);
+            em.persist(trainer);
+            Pokemon pokemon = new Pokemon(302, null, "Abra", 25, true, new ArrayList<>(List.of(TYPES[14])));
+            trainer.addPokemon(pokemon);
+            em.persist(pokemon);
+        });
+        assertThat(stats(10), is(new TrainerStats(10, 1, 25, 1)));
+        inTransaction(EMF, em -> {
+            Pokemon pokemon = em.find(Pokemon.class, 302);
+            pokemon.getTrainer().removePokemon(pokemon);
+            em.remove(pokemon);
+        });
+        // Same as after rebuild
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(Leaderboard.trainer(em, 10).isPresent(), is(false));
+        }
+    }
+
+    @Test
+    public void testRebuildMatchesIncremental() {
+        List<TrainerStats> incremental;
+        try (EntityManager em = EMF.createEntityManager()) {
+            incremental = Leaderboard.topTrainers(em, 100);
+        }
+        assertThat(Leaderboard.rebuild(EMF), is(incremental.size()));
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(Leaderboard.topTrainers(em, 100), is(incremental));
+        }
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory("test-pu", Leaderboard.properties());
+        // Initialize data, statistics are maintained from the first persisted Pokemon
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+        // Trainer without team is not part of team statistics
+        inTransaction(EMF, em -> {
+            Trainer trainer = new Trainer(8, "Tracey", null);
+            em.persist(trainer);
+            em.persist(new Pokemon(301, trainer, "Marill", 70, true, new ArrayList<>(List.of(TYPES[11]))));
+            // Trainer without Pokemons has no statistics
+            em.persist(new Trainer(9, "Erika", Data.TEAMS[2]));
+        });
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    private static TrainerStats stats(int trainerId) {
+        try (EntityManager em = EMF.createEntityManager()) {
+            return Leaderboard.trainer(em, trainerId).orElseThrow();
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Barrier failed", e);
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+
+import io.helidon.test.data.ReadOnly;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.helidon.test.Data.TEAMS;
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TestMemoryFootprint {
+
+    // Trainer with large roster, imported only for the heap measurement
+    private static final int OAK = 7;
+    private static final int ROSTER_SIZE = 20_000;
+    private static final int FIRST_ID = 1000;
+    private static final String ROSTER
+            = "SELECT DISTINCT p FROM Pokemon p LEFT JOIN FETCH p.types WHERE p.trainer.id = :id";
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestMemoryFootprint() {
+    }
+
+    @Test
+    public void testReadWriteKeepsSnapshot() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            for (Pokemon pokemon : roster(em, 1, Function.identity())) {
+                EntityEntry entry = entry(em, pokemon);
+                assertThat(entry.isReadOnly(), is(false));
+                assertThat(entry.getLoadedState(), notNullValue());
+            }
+        }
+    }
+
+    @Test
+    public void testReadOnlySessionSkipsSnapshot() {
+        try (EntityManager em = ReadOnly.session(EMF.createEntityManager())) {
+            assertReadOnly(em, roster(em, 1, Function.identity()));
+        }
+    }
+
+    @Test
+    public void testReadOnlyQuerySkipsSnapshot() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertReadOnly(em, roster(em, 1, ReadOnly::query));
+        }
+    }
+
+    @Test
+    public void testReadOnlyChangesNotFlushed() {
+        try (EntityManager em = ReadOnly.session(EMF.createEntityManager())) {
+            inTransaction(em, e -> e.find(Pokemon.class, 1).setHp(1));
+        }
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.find(Pokemon.class, 1).getHp(), is(72));
+        }
+    }
+
+    // Estimate based on used heap, run with -Dfootprint=true
+    @Test
+    @EnabledIfSystemProperty(named = "footprint", matches = "true")
+    public void testFootprint(@TempDir Path dir) throws IOException {
+        Data.importRoster(EMF, dir, new Trainer(OAK, "Oak", TEAMS[1]), FIRST_ID, ROSTER_SIZE, "1|3");
+        long detached = FootprintProbe.bytesPerObject("Detached Pokemon", ROSTER_SIZE, () -> {
+            try (EntityManager em = EMF.createEntityManager()) {
+                return roster(em, OAK, Function.identity());
+            }
+        }, roster -> { });
+        long readWrite = FootprintProbe.bytesPerObject("Managed read-write Pokemon", ROSTER_SIZE, () -> {
+            EntityManager em = EMF.createEntityManager();
+            roster(em, OAK, Function.identity());
+            return em;
+        }, EntityManager::close);
+        FootprintProbe.bytesPerObject("Managed read-only session Pokemon", ROSTER_SIZE, () -> {
+            EntityManager em = ReadOnly.session(EMF.createEntityManager());
+            roster(em, OAK, Function.identity());
+            return em;
+        }, EntityManager::close);
+        FootprintProbe.bytesPerObject("Managed read-only query Pokemon", ROSTER_SIZE, () -> {
+            EntityManager em = EMF.createEntityManager();
+            roster(em, OAK, ReadOnly::query);
+            return em;
+        }, EntityManager::close);
+        // Only the persistence context overhead is well above the measurement noise
+        assertThat(readWrite, greaterThan(detached));
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory("test-pu");
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    private static void assertReadOnly(EntityManager em, List<Pokemon> roster) {
+        assertThat(roster.size(), is(4));
+        for (Pokemon pokemon : roster) {
+            EntityEntry entry = entry(em, pokemon);
+            assertThat(entry.isReadOnly(), is(true));
+            assertThat(entry.getLoadedState(), nullValue());
+        }
+    }
+
+    private static EntityEntry entry(EntityManager em, Pokemon pokemon) {
+        return em.unwrap(SharedSessionContractImplementor.class)
+                .getPersistenceContextInternal()
+                .getEntry(pokemon);
+    }
+
+    private static List<Pokemon> roster(EntityManager em,
+                                        int trainerId,
+                                        Function<TypedQuery<Pokemon>, TypedQuery<Pokemon>> mode) {
+        return mode.apply(em.createQuery(ROSTER, Pokemon.class))
+                .setParameter("id", trainerId)
+                .getResultList();
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.tenant.LeagueTenantResolver;
+import io.helidon.test.tenant.LeagueTenants;
+import io.helidon.test.tenant.SchemaConnectionProvider;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TestMultiTenancy {
+
+    private static final String LEAGUE_1 = LeagueTenants.tenantIdentifier(Data.LEAGUES[1]);
+    private static final String LEAGUE_2 = LeagueTenants.tenantIdentifier(Data.LEAGUES[2]);
+    private static final String LEAGUE_3 = LeagueTenants.tenantIdentifier(Data.LEAGUES[3]);
+
+    private static JdbcConnectionPool POOL = null;
+    private static LeagueTenantResolver RESOLVER = null;
+    private static EntityManagerFactory EMF = null;
+
+    public TestMultiTenancy() {
+    }
+
+    @Test
+    public void testTenantIsolation() {
+        RESOLVER.run(LEAGUE_2, () -> {
+            inTransaction(EMF, em -> {
+                em.find(Pokemon.class, 1).setName("Pichu");
+                em.remove(em.find(Pokemon.class, 2));
+            });
+        });
+        RESOLVER.run(LEAGUE_1, () -> {
+            try (EntityManager em = EMF.createEntityManager()) {
+                assertThat(em.find(Pokemon.class, 1).getName(), is("Pikachu"));
+                assertThat(em.find(Pokemon.class, 2).getName(), is("Raichu"));
+            }
+        });
+        RESOLVER.run(LEAGUE_2, () -> {
+            try (EntityManager em = EMF.createEntityManager()) {
+                assertThat(em.find(Pokemon.class, 1).getName(), is("Pichu"));
+                assertThat(em.find(Pokemon.class, 2), nullValue());
+            }
+        });
+        RESOLVER.run(LEAGUE_3, () -> {
+            try (EntityManager em = EMF.createEntityManager()) {
+                assertThat(em.createQuery("SELECT COUNT(p) FROM Pokemon p", Long.class).getSingleResult(),
+                           is(0L));
+            }
+        });
+    }
+
+    @Test
+    public void testNamedQueryPerTenant() {
+        List<Integer> league1 = RESOLVER.call(LEAGUE_1, () -> pokemonIdsByTrainer(1));
+        List<Integer> league3 = RESOLVER.call(LEAGUE_3, () -> pokemonIdsByTrainer(1));
+        assertThat(league1, is(List.of(1, 2, 3, 4)));
+        assertThat(league3, is(List.of()));
+    }
+
+    @BeforeAll
+    public static void before() throws SQLException {
+        POOL = JdbcConnectionPool.create("jdbc:h2:mem:tenants;DB_CLOSE_DELAY=-1", "test", "P4sww0rd");
+        List<String> ddl = LeagueTenants.ddl("test-pu", Map.of());
+        for (String tenant : List.of(LEAGUE_1, LEAGUE_2, LEAGUE_3)) {
+            LeagueTenants.createSchema(POOL, tenant, ddl);
+        }
+        RESOLVER = new LeagueTenantResolver("PUBLIC");
+        // Single factory and connection pool shared by all tenants
+        EMF = Persistence.createEntityManagerFactory(
+                "test-pu",
+                Map.of("jakarta.persistence.schema-generation.database.action", "none",
+                       "hibernate.multi_tenant_connection_provider", new SchemaConnectionProvider(POOL, "PUBLIC"),
+                       "hibernate.tenant_identifier_resolver", RESOLVER));
+        // Initialize data
+        for (String tenant : List.of(LEAGUE_1, LEAGUE_2)) {
+            RESOLVER.run(tenant, () -> {
+                try (EntityManager em = EMF.createEntityManager()) {
+                    Data.init(em);
+                }
+            });
+        }
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+        if (POOL != null) {
+            POOL.dispose();
+        }
+    }
+
+    private static List<Integer> pokemonIdsByTrainer(int trainerId) {
+        try (EntityManager em = EMF.createEntityManager()) {
+            return em.createNamedQuery("Pokemon.findByTrainer", Pokemon.class)
+                    .setParameter("trainerId", trainerId)
+                    .getResultList()
+                    .stream()
+                    .map(Pokemon::getId)
+                    .toList();
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.helidon.test.data.PokemonCodec;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.test.Data.POKEMONS;
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestPokemonCodec {
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestPokemonCodec() {
+    }
+
+    @Test
+    public void testRoundTrip() {
+        List<Pokemon> pokemons = Arrays.asList(POKEMONS).subList(1, POKEMONS.length);
+        byte[] data = PokemonCodec.encode(pokemons);
+        List<Pokemon> decoded = PokemonCodec.decode(data);
+        assertThat(decoded, is(pokemons));
+        for (int i = 0; i < pokemons.size(); i++) {
+            assertThat(decoded.get(i).getHp(), is(pokemons.get(i).getHp()));
+        }
+        // Shared instances are written once
+        int separately = 0;
+        for (Pokemon pokemon : pokemons) {
+            separately += PokemonCodec.encode(List.of(pokemon)).length;
+        }
+        assertThat(data.length, lessThan(separately * 2 / 3));
+        assertThat(decoded.get(0).getTrainer(), sameInstance(decoded.get(1).getTrainer()));
+        assertThat(decoded.get(0).getTrainer().getTeam(), sameInstance(decoded.get(5).getTrainer().getTeam()));
+        assertThat(decoded.get(0).getTypes().iterator().next(), sameInstance(decoded.get(1).getTypes().iterator().next()));
+    }
+
+    @Test
+    public void testNullValues() {
+        Pokemon pokemon = new Pokemon(-1, null, null, -1, false, null);
+        Pokemon decoded = PokemonCodec.decode(PokemonCodec.encode(List.of(pokemon))).get(0);
+        assertThat(decoded.getId(), is(-1));
+        assertThat(decoded.getHp(), is(-1));
+        assertThat(decoded.isAlive(), is(false));
+        assertThat(decoded.getName(), nullValue());
+        assertThat(decoded.getTrainer(), nullValue());
+        assertThat(decoded.getTypes(), nullValue());
+    }
+
+    @Test
+    public void testMalformedData() {
+        byte[] data = PokemonCodec.encode(List.of(POKEMONS[1], POKEMONS[2]));
+        assertThrows(IllegalArgumentException.class,
+                     () -> PokemonCodec.decode(Arrays.copyOf(data, data.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> PokemonCodec.decode(Arrays.copyOf(data, data.length + 1)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> PokemonCodec.decode(new byte[] {(byte) 0x7F}));
+        // Huge counts must be rejected before allocation
+        byte[] hugeCount = new byte[] {(byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 7};
+        byte[] pokemons = new byte[1 + hugeCount.length];
+        pokemons[0] = 2;
+        System.arraycopy(hugeCount, 0, pokemons, 1, hugeCount.length);
+        assertThrows(IllegalArgumentException.class, () -> PokemonCodec.decode(pokemons));
+        // Types count is the last byte of Pokemon without trainer and types
+        byte[] single = PokemonCodec.encode(List.of(new Pokemon(1, null, null, 1, true, List.of())));
+        byte[] types = Arrays.copyOf(single, single.length - 1 + hugeCount.length);
+        System.arraycopy(hugeCount, 0, types, single.length - 1, hugeCount.length);
+        assertThrows(IllegalArgumentException.class, () -> PokemonCodec.decode(types));
+    }
+
+    @Test
+    public void testMergeDecoded() {
+        List<Pokemon> pokemons;
+        try (EntityManager em = EMF.createEntityManager()) {
+            pokemons = em.createNamedQuery("Pokemon.findByTrainer", Pokemon.class)
+                    .setParameter("trainerId", 5)
+                    .getResultList();
+        }
+        List<Pokemon> decoded = PokemonCodec.decode(PokemonCodec.encode(pokemons));
+        decoded.get(0).setHp(200);
+        decoded.get(1).getTypes().add(Data.TYPES[17]);
+        inTransaction(EMF, em -> decoded.forEach(em::merge));
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.find(Pokemon.class, 15).getHp(), is(200));
+            assertThat(em.createQuery("SELECT t.id FROM Pokemon p JOIN p.types t WHERE p.id = 16 ORDER BY t.id",
+                                      Integer.class)
+                               .getResultList(),
+                       is(List.of(3, 14, 17)));
+        }
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory("test-pu");
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
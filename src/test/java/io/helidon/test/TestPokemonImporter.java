@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.test.data.PokemonImporter;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.helidon.test.Data.callInTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestPokemonImporter {
+
+    private static EntityManagerFactory EMF = null;
+
+    @TempDir
+    Path dir;
+
+    public TestPokemonImporter() {
+    }
+
+    @Test
+    public void testImport() throws IOException {
+        // Cache lookup which must not become stale after the import
+        assertThat(pokemonIdsByTrainer(6), is(List.of(18, 19, 20)));
+        StringBuilder csv = new StringBuilder("id,trainer_id,name,hp,alive,types\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append(5000 + i).append(',')
+                    .append(1 + i % 6).append(',')
+                    .append("Imported ").append(i).append(',')
+                    .append(10 + i).append(',')
+                    .append(i % 3 == 0 ? "false" : "true").append(',')
+                    .append(1 + i % 18).append('|').append(1 + (i + 1) % 18)
+                    .append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        // Special values
+        csv.append("6000,,\"Mr. \"\"Mime\"\", Jr.\",40,1,14|18\n");
+        csv.append("6001,3,Ditto,48,0,\n");
+        csv.append("6002,6,Unown,48,0");
+        // Unknown trainer and type
+        csv.append("\n6003,99,Missing,10,true,1\n");
+        csv.append("6004,1,Missing,10,true,1|42\n");
+        Path file = write(csv.toString());
+        List<long[]> progress = new ArrayList<>();
+        PokemonImporter importer = new PokemonImporter(64, 512, (imported, rejected, elapsed) ->
+                progress.add(new long[] {imported, rejected}));
+        PokemonImporter.Result result = callInTransaction(EMF, em -> {
+            PokemonImporter.Result imported = importer.importFile(em, file);
+            // Concurrent reader before commit must not cache the result until the import commits
+            assertThat(pokemonIdsByTrainer(6), is(List.of(18, 19, 20)));
+            return imported;
+        });
+        assertThat(result.getImported(), is(503L));
+        assertThat(result.getRejected(), is(2L));
+        assertThat(progress.size(), is(8));
+        assertThat(progress.get(0)[0], is(64L));
+        assertThat(progress.get(progress.size() - 1)[0], is(503L));
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.createQuery("SELECT COUNT(p) FROM Pokemon p WHERE p.id >= 5000", Long.class)
+                               .getSingleResult(),
+                       is(503L));
+            Pokemon pokemon = em.find(Pokemon.class, 5007);
+            assertThat(pokemon.getName(), is("Imported 7"));
+            assertThat(pokemon.getHp(), is(17));
+            assertThat(pokemon.isAlive(), is(true));
+            assertThat(pokemon.getTrainer().getId(), is(2));
+            assertThat(typeIds(em, 5007), is(List.of(8, 9)));
+            Pokemon mime = em.find(Pokemon.class, 6000);
+            assertThat(mime.getName(), is("Mr. \"Mime\", Jr."));
+            assertThat(mime.getTrainer(), nullValue());
+            assertThat(typeIds(em, 6000), is(List.of(14, 18)));
+            assertThat(typeIds(em, 6001), is(List.of()));
+            assertThat(em.find(Pokemon.class, 6002).getName(), is("Unown"));
+            assertThat(em.find(Pokemon.class, 6003), nullValue());
+            assertThat(em.find(Pokemon.class, 6004), nullValue());
+        }
+        assertThat(pokemonIdsByTrainer(6).size(), is(3 + 83 + 1));
+    }
+
+    @Test
+    public void testMalformedRow() throws IOException {
+        Path file = write("7000,1,Abra,20,true,14\n7001,1,Kadabra,forty,true,14\n");
+        PokemonImporter importer = new PokemonImporter(10, (imported, rejected, elapsed) -> { });
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> callInTransaction(EMF, em -> importer.importFile(em, file)));
+        assertThat(e.getMessage(), is("Malformed row on line 2: invalid number"));
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.find(Pokemon.class, 7000), nullValue());
+        }
+    }
+
+    @Test
+    public void testInvalidBoolean() throws IOException {
+        PokemonImporter importer = new PokemonImporter(10, (imported, rejected, elapsed) -> { });
+        for (String alive : new String[] {"tree", "tXYZ", "fXXXX", "truth", "yes", ""}) {
+            Path file = write("4100,1,Abra,20," + alive + ",14\n");
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                      () -> callInTransaction(EMF, em -> importer.importFile(em, file)));
+            assertThat(e.getMessage(), is("Malformed row on line 1: invalid boolean"));
+        }
+        Path file = write("4100,1,Abra,20,TRUE,14\n4101,1,Kadabra,40,False,14\n");
+        callInTransaction(EMF, em -> importer.importFile(em, file));
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.find(Pokemon.class, 4100).isAlive(), is(true));
+            assertThat(em.find(Pokemon.class, 4101).isAlive(), is(false));
+        }
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory("test-pu");
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = dir.resolve("pokemons.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<Integer> typeIds(EntityManager em, int pokemonId) {
+        return em.createQuery("SELECT t.id FROM Pokemon p JOIN p.types t WHERE p.id = :id ORDER BY t.id",
+                              Integer.class)
+                .setParameter("id", pokemonId)
+                .getResultList();
+    }
+
+    private static List<Integer> pokemonIdsByTrainer(int trainerId) {
+        try (EntityManager em = EMF.createEntityManager()) {
+            return em.createNamedQuery("Pokemon.findByTrainer", Pokemon.class)
+                    .setParameter("trainerId", trainerId)
+                    .getResultList()
+                    .stream()
+                    .map(Pokemon::getId)
+                    .toList();
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.test.Data.TRAINERS;
+import static io.helidon.test.Data.TYPES;
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class TestQueryCache {
+
+    private static EntityManagerFactory EMF = null;
+    private static final StatementCounter COUNTER = new StatementCounter();
+
+    public TestQueryCache() {
+    }
+
+    @Test
+    public void testRepeatedLookupHitsCache() {
+        assertThat(pokemonIdsByName("Diglett"), is(List.of(14)));
+        assertThat(trainerIdsByName("Misty"), is(List.of(3)));
+        // Cached results are served without any SQL statement
+        long statements = COUNTER.count();
+        for (int i = 0; i < 3; i++) {
+            assertThat(pokemonIdsByName("Diglett"), is(List.of(14)));
+            assertThat(trainerIdsByName("Misty"), is(List.of(3)));
+        }
+        assertThat(COUNTER.count(), is(statements));
+    }
+
+    @Test
+    public void testMergeInvalidatesLookup() {
+        assertThat(pokemonIdsByName("Diglett"), is(List.of(14)));
+        assertThat(pokemonIdsByTrainer(1), is(List.of(1, 2, 3, 4)));
+        // New Pokemon
+        inTransaction(EMF, em -> em.persist(new Pokemon(100,
+                                                 TRAINERS[1],
+                                                 "Diglett",
+                                                 32,
+                                                 true,
+                                                 new ArrayList<>(List.of(TYPES[5])))));
+        assertThat(pokemonIdsByName("Diglett"), is(List.of(14, 100)));
+        assertThat(pokemonIdsByTrainer(1), is(List.of(1, 2, 3, 4, 100)));
+        // Modified detached Pokemon
+        Pokemon pokemon;
+        try (EntityManager em = EMF.createEntityManager()) {
+            pokemon = em.find(Pokemon.class, 100);
+        }
+        pokemon.setName("Dugtrio");
+        inTransaction(EMF, em -> em.merge(pokemon));
+        assertThat(pokemonIdsByName("Diglett"), is(List.of(14)));
+        assertThat(pokemonIdsByName("Dugtrio"), is(List.of(100)));
+    }
+
+    @Test
+    public void testBulkDeleteInvalidatesLookup() {
+        inTransaction(EMF, em -> em.persist(new Pokemon(101,
+                                                 TRAINERS[2],
+                                                 "Meowth",
+                                                 90,
+                                                 true,
+                                                 new ArrayList<>(List.of(TYPES[1])))));
+        assertThat(pokemonIdsByName("Meowth"), is(List.of(6, 101)));
+        assertThat(pokemonIdsByTrainer(2), is(List.of(5, 6, 7, 8, 101)));
+        inTransaction(EMF, em -> em.createNamedQuery("Pokemon.deleteTemp").executeUpdate());
+        assertThat(pokemonIdsByName("Meowth"), is(List.of(6)));
+        assertThat(pokemonIdsByTrainer(2), is(List.of(5, 6, 7, 8)));
+    }
+
+    @BeforeEach
+    public void cleanup() {
+        inTransaction(EMF, em -> em.createNamedQuery("Pokemon.deleteTemp").executeUpdate());
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory(
+                "test-pu",
+                Map.of("hibernate.session_factory.statement_inspector", COUNTER));
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    private static List<Integer> pokemonIdsByName(String name) {
+        try (EntityManager em = EMF.createEntityManager()) {
+            return em.createNamedQuery("Pokemon.findByName", Pokemon.class)
+                    .setParameter("name", name)
+                    .getResultList()
+                    .stream()
+                    .map(Pokemon::getId)
+                    .toList();
+        }
+    }
+
+    private static List<Integer> pokemonIdsByTrainer(int trainerId) {
+        try (EntityManager em = EMF.createEntityManager()) {
+            return em.createNamedQuery("Pokemon.findByTrainer", Pokemon.class)
+                    .setParameter("trainerId", trainerId)
+                    .getResultList()
+                    .stream()
+                    .map(Pokemon::getId)
+                    .toList();
+        }
+    }
+
+    private static List<Integer> trainerIdsByName(String name) {
+        try (EntityManager em = EMF.createEntityManager()) {
+            return em.createNamedQuery("Trainer.findByName", Trainer.class)
+                    .setParameter("name", name)
+                    .getResultList()
+                    .stream()
+                    .map(Trainer::getId)
+                    .toList();
+        }
+    }
+
+}
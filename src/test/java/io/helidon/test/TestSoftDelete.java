@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.test.data.SoftDeleteCompactor;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.test.Data.NEW_POKEMONS;
+import static io.helidon.test.Data.TRAINERS;
+import static io.helidon.test.Data.TYPES;
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TestSoftDelete {
+
+    private static final StatementCounter COUNTER = new StatementCounter();
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestSoftDelete() {
+    }
+
+    @Test
+    public void testSoftDeleteIsSingleUpdate() {
+        long statements = COUNTER.count();
+        inTransaction(EMF, em -> assertThat(softDelete(em, 100), is(1)));
+        assertThat(COUNTER.count() - statements, is(1L));
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.find(Pokemon.class, 100), nullValue());
+            assertThat(em.find(Trainer.class, 1).getPokemons().size(), is(5));
+        }
+        // Row and its join rows are kept
+        assertThat(physicalCount("POKEMNON", 100), is(1L));
+        assertThat(physicalCount("POKEMNON_TYPE", 100), is(1L));
+    }
+
+    @Test
+    public void testQueriesSkipDeleted() {
+        inTransaction(EMF, em -> softDelete(em, 100, 101, 102));
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.createQuery("SELECT COUNT(p) FROM Pokemon p", Long.class).getSingleResult(),
+                       is(20L));
+            assertThat(em.createNamedQuery("Pokemon.findByName", Pokemon.class)
+                               .setParameter("name", "Dugtrio")
+                               .getResultList()
+                               .isEmpty(),
+                       is(true));
+            assertThat(em.createNamedQuery("Pokemon.findByTrainer", Pokemon.class)
+                               .setParameter("trainerId", 2)
+                               .getResultList()
+                               .size(),
+                       is(4));
+        }
+        assertThat(physicalCount("POKEMNON", 101), is(1L));
+        assertThat(physicalCount("POKEMNON", 102), is(1L));
+    }
+
+    @Test
+    public void testCompactorPurgesDeleted() {
+        inTransaction(EMF, em -> softDelete(em, 20, 100, 101, 102));
+        // Batch smaller than number of deleted rows
+        assertThat(new SoftDeleteCompactor(EMF, 3).purge(), is(4L));
+        for (int id : new int[] {20, 100, 101, 102}) {
+            assertThat(physicalCount("POKEMNON", id), is(0L));
+            assertThat(physicalCount("POKEMNON_TYPE", id), is(0L));
+        }
+        assertThat(physicalCount("POKEMNON", 19), is(1L));
+        assertThat(new SoftDeleteCompactor(EMF, 3).purge(), is(0L));
+        // Restore purged Pokemon
+        inTransaction(EMF, em -> em.persist(new Pokemon(20, TRAINERS[6], "Regirock", 149, true,
+                                                   new ArrayList<>(List.of(TYPES[6])))));
+    }
+
+    @Test
+    public void testDeleteTempRemovesSoftDeleted() {
+        inTransaction(EMF, em -> softDelete(em, 100));
+        inTransaction(EMF, em -> assertThat(em.createNamedQuery("Pokemon.deleteTemp").executeUpdate(), is(3)));
+        assertThat(physicalCount("POKEMNON", 100), is(0L));
+        assertThat(physicalCount("POKEMNON_TYPE", 100), is(0L));
+    }
+
+    @BeforeEach
+    public void reset() {
+        inTransaction(EMF, em -> em.createNamedQuery("Pokemon.deleteTemp").executeUpdate());
+        inTransaction(EMF, em -> {
+            for (int id = 100; id < 103; id++) {
+                Pokemon pokemon = NEW_POKEMONS.get(id);
+                em.persist(new Pokemon(id,
+                                       pokemon.getTrainer(),
+                                       pokemon.getName(),
+                                       pokemon.getHp(),
+                                       pokemon.isAlive(),
+                                       new ArrayList<>(pokemon.getTypes())));
+            }
+        });
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory(
+                "test-pu",
+                Map.of("hibernate.session_factory.statement_inspector", COUNTER));
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    private static int softDelete(EntityManager em, Integer... ids) {
+        return em.createNamedQuery("Pokemon.softDelete")
+                .setParameter("ids", List.of(ids))
+                .executeUpdate();
+    }
+
+    // Count rows including soft deleted
+    private static long physicalCount(String table, int pokemonId) {
+        String column = "POKEMNON".equals(table) ? "ID" : "POKEMNON_ID";
+        try (EntityManager em = EMF.createEntityManager()) {
+            return ((Number) em.createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?1")
+                    .setParameter(1, pokemonId)
+                    .getSingleResult())
+                    .longValue();
+        }
+    }
+
+}
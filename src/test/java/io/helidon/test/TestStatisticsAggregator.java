@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import io.helidon.test.data.StatisticsAggregator;
+import io.helidon.test.data.TeamStatistics;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.test.Data.TRAINERS;
+import static io.helidon.test.Data.TYPES;
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class TestStatisticsAggregator {
+
+    private static final StatementCounter COUNTER = new StatementCounter();
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestStatisticsAggregator() {
+    }
+
+    @Test
+    public void testSequentialMatchesEntities() {
+        Map<Integer, TeamStatistics> statistics = new StatisticsAggregator(EMF).aggregate();
+        Map<Integer, long[]> expected = new TreeMap<>();
+        Map<Integer, Map<Integer, Long>> expectedTypes = new TreeMap<>();
+        try (EntityManager em = EMF.createEntityManager()) {
+            for (Pokemon pokemon : em.createQuery("SELECT p FROM Pokemon p", Pokemon.class).getResultList()) {
+                if (pokemon.getTrainer() == null || pokemon.getTrainer().getTeam() == null) {
+                    continue;
+                }
+                int teamId = pokemon.getTrainer().getTeam().getId();
+                long[] totals = expected.computeIfAbsent(teamId, id -> new long[3]);
+                totals[0]++;
+                totals[1] += pokemon.getHp();
+                totals[2] += pokemon.isAlive() ? 1 : 0;
+                for (Type type : pokemon.getTypes()) {
+                    expectedTypes.computeIfAbsent(teamId, id -> new TreeMap<>())
+                            .merge(type.getId(), 1L, Long::sum);
+                }
+            }
+        }
+        assertThat(statistics.keySet(), is(expected.keySet()));
+        expected.forEach((teamId, totals) -> {
+            TeamStatistics team = statistics.get(teamId);
+            assertThat(team.getCount(), is(totals[0]));
+            assertThat(team.getTotalHp(), is(totals[1]));
+            assertThat(team.getAliveCount(), is(totals[2]));
+            assertThat(team.getTypeDistribution(), is(expectedTypes.get(teamId)));
+        });
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        StatisticsAggregator aggregator = new StatisticsAggregator(EMF);
+        Map<Integer, TeamStatistics> sequential = aggregator.aggregate();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int rangeSize : new int[] {1, 7, 64, 100_000}) {
+                assertThat(aggregator.aggregate(pool, rangeSize), is(sequential));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Number of ranges follows the number of rows, not the span of IDs
+    @Test
+    public void testSparseIds() {
+        StatisticsAggregator aggregator = new StatisticsAggregator(EMF);
+        Map<Integer, TeamStatistics> sequential = aggregator.aggregate();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long statements = COUNTER.count();
+            assertThat(aggregator.aggregate(pool, 100), is(sequential));
+            // Boundary and aggregation query for each of 4 ranges
+            assertThat(COUNTER.count() - statements, lessThan(10L));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @BeforeAll
+    public static void before() {
+        EMF = Persistence.createEntityManagerFactory(
+                "test-pu",
+                Map.of("hibernate.session_factory.statement_inspector", COUNTER));
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+        inTransaction(EMF, em -> {
+            // Additional Pokemons spread over all trainers with gaps in ID space
+            for (int i = 0; i < 300; i++) {
+                em.persist(new Pokemon(1000 + 3 * i,
+                                       TRAINERS[1 + i % (TRAINERS.length - 1)],
+                                       "Pokemon " + i,
+                                       10 + i,
+                                       i % 5 != 0,
+                                       i % 2 == 0
+                                               ? List.of(TYPES[1 + i % 18])
+                                               : List.of(TYPES[1 + i % 18], TYPES[1 + (i + 7) % 18])));
+            }
+            // Trainer without team, its Pokemons are not counted
+            Trainer trainer = new Trainer(8, "Tracey", null);
+            em.persist(trainer);
+            em.persist(new Pokemon(2000, trainer, "Marill", 70, true, List.of(TYPES[11])));
+            // Outliers leaving large gaps in ID space
+            em.persist(new Pokemon(1_000_000_000, TRAINERS[1], "Mew", 100, true, List.of(TYPES[14])));
+            em.persist(new Pokemon(Integer.MAX_VALUE, TRAINERS[2], "Mewtwo", 106, true, List.of(TYPES[14])));
+        });
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.helidon.test.Data.TEAMS;
+import static io.helidon.test.Data.TYPES;
+import static io.helidon.test.Data.inTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class TestTrainerPokemons {
+
+    // Trainer with large roster
+    private static final int GARY = 7;
+    private static final int ROSTER_SIZE = 100_000;
+    private static final int FIRST_ID = 1000;
+    private static final StatementCounter COUNTER = new StatementCounter();
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestTrainerPokemons() {
+    }
+
+    @Test
+    public void testAddToLargeRoster() {
+        inTransaction(EMF, em -> {
+            Trainer trainer = em.find(Trainer.class, GARY);
+            long statements = COUNTER.count();
+            Pokemon pokemon = new Pokemon(200_000, null, "Eevee", 55, true, new ArrayList<>());
+            trainer.addPokemon(pokemon);
+            em.persist(pokemon);
+            em.flush();
+            // Single INSERT of the Pokemon, roster is not loaded
+            assertThat(COUNTER.count() - statements, is(1L));
+            assertThat(Hibernate.isInitialized(trainer.getPokemons()), is(false));
+            assertThat(pokemon.getTrainer(), sameInstance(trainer));
+        });
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.find(Pokemon.class, 200_000).getTrainer().getId(), is(GARY));
+        }
+    }
+
+    @Test
+    public void testQueuedAddVisibleAfterInitialization() {
+        inTransaction(EMF, em -> {
+            Trainer trainer = em.find(Trainer.class, 2);
+            Pokemon pokemon = new Pokemon(200_001, null, "Vulpix", 38, true, new ArrayList<>(List.of(TYPES[10])));
+            trainer.addPokemon(pokemon);
+            em.persist(pokemon);
+            // Initialization without flush applies the queued addition
+            assertThat(trainer.getPokemons().size(), is(5));
+            assertThat(trainer.getPokemons(), hasItem(pokemon));
+        });
+    }
+
+    @Test
+    public void testChangeTrainer() {
+        inTransaction(EMF, em -> {
+            Trainer from = em.find(Trainer.class, GARY);
+            Trainer to = em.find(Trainer.class, 3);
+            // Initialized target roster is updated in memory
+            assertThat(to.getPokemons().size(), is(3));
+            Pokemon pokemon = em.find(Pokemon.class, FIRST_ID + ROSTER_SIZE);
+            long statements = COUNTER.count();
+            pokemon.changeTrainer(to);
+            em.flush();
+            assertThat(COUNTER.count() - statements, is(1L));
+            assertThat(Hibernate.isInitialized(from.getPokemons()), is(false));
+            assertThat(to.getPokemons(), hasItem(pokemon));
+            assertThat(pokemon.getTrainer(), sameInstance(to));
+            // Initialized source roster is updated in memory
+            pokemon.changeTrainer(null);
+            assertThat(pokemon.getTrainer(), nullValue());
+            assertThat(to.getPokemons(), not(hasItem(pokemon)));
+        });
+    }
+
+    @BeforeAll
+    public static void before(@TempDir Path dir) throws IOException {
+        EMF = Persistence.createEntityManagerFactory(
+                "test-pu",
+                Map.of("hibernate.session_factory.statement_inspector", COUNTER));
+        // Initialize data
+        try (EntityManager em = EMF.createEntityManager()) {
+            Data.init(em);
+        }
+        Data.importRoster(EMF, dir, new Trainer(GARY, "Gary", TEAMS[1]), FIRST_ID, ROSTER_SIZE, "1");
+    }
+
+    @AfterAll
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}